@@ -6,21 +6,28 @@ import epg.error.RestError;
 import epg.error.TechnicalError;
 import epg.exception.BusinessException;
 import epg.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.servlet.HandlerMapping;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 public abstract class AbstractController {
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @ExceptionHandler(Exception.class)
     @ResponseBody
     public RestError handleBusinessRuleValidationError(
             HttpServletRequest request, HttpServletResponse response, Exception exception) {
 
+        countError(request, exception);
         response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
 
         if (exception instanceof BusinessException) {
@@ -34,7 +41,16 @@ public abstract class AbstractController {
     @ExceptionHandler(ResourceNotFoundException.class)
     @ResponseStatus(value = HttpStatus.NOT_FOUND)
     @ResponseBody
-    public ResourceNotFoundError handle(ResourceNotFoundException ex) {
+    public ResourceNotFoundError handle(HttpServletRequest request, ResourceNotFoundException ex) {
+        countError(request, ex);
+
         return new ResourceNotFoundError(ex.getMessageKey(), ex.getArguments());
     }
+
+    private void countError(HttpServletRequest request, Exception exception) {
+        Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+        meterRegistry.counter("epg.errors", "exception", exception.getClass().getSimpleName(),
+                              "uri", uri == null ? "UNKNOWN" : uri.toString()).increment();
+    }
 }
@@ -1,15 +1,17 @@
 package epg.controller;
 
 import epg.model.Channel;
+import epg.service.channel.ChannelListSnapshot;
 import epg.service.channel.ChannelService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
 
-import java.util.List;
-
 import static epg.controller.RestEndpoint.BASE_URL;
 
 @RestController
@@ -26,8 +28,31 @@ public class ChannelController extends AbstractController {
     }
 
     @GetMapping
-    @ResponseStatus(HttpStatus.OK)
-    public List<Channel> getAllChannels() {
-        return channelService.getAllChannels();
+    public ResponseEntity<byte[]> getAllChannels(
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        ChannelListSnapshot snapshot = channelService.getAllChannelsSnapshot();
+
+        if (eTagMatches(snapshot.getETag(), ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(snapshot.getETag()).build();
+        }
+
+        return ResponseEntity.ok().eTag(snapshot.getETag()).contentType(MediaType.APPLICATION_JSON)
+                             .body(snapshot.getBody());
+    }
+
+    private boolean eTagMatches(String eTag, String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmedCandidate = candidate.trim();
+
+            if (trimmedCandidate.equals("*") || trimmedCandidate.replaceFirst("^W/", "").equals(eTag)) {
+                return true;
+            }
+        }
+
+        return false;
     }
 }
\ No newline at end of file
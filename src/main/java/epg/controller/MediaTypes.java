@@ -0,0 +1,8 @@
+package epg.controller;
+
+public class MediaTypes {
+
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    private MediaTypes() {}
+}
@@ -1,14 +1,32 @@
 package epg.controller;
 
+import epg.exception.BusinessException;
+import epg.model.ChannelNowAndNext;
+import epg.model.ChannelPrograms;
 import epg.model.Program;
+import epg.model.ProgramDeleteResult;
+import epg.model.ProgramLookupResult;
+import epg.model.ProgramView;
+import epg.service.program.ProgramNdjsonImporter;
+import epg.service.program.ProgramImportResult;
 import epg.service.program.ProgramService;
+import epg.service.program.ProgramStreamExporter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.List;
 
+import static epg.controller.MediaTypes.APPLICATION_NDJSON_VALUE;
 import static epg.controller.RestEndpoint.BASE_URL;
 
 @RestController
@@ -18,16 +36,113 @@ public class ProgramController extends AbstractController {
     @Autowired
     private ProgramService programService;
 
+    @Autowired
+    private ProgramNdjsonImporter programNdjsonImporter;
+
+    @Autowired
+    private ProgramStreamExporter programStreamExporter;
+
     @PostMapping("/create")
     @ResponseStatus(HttpStatus.CREATED)
     public Program createProgram(@Valid @RequestBody Program program) {
         return programService.createProgram(program);
     }
 
+    @PostMapping("/import")
+    @ResponseStatus(HttpStatus.OK)
+    public ProgramImportResult importPrograms(@RequestBody List<Program> programs) {
+        return programService.importPrograms(programs);
+    }
+
+    @PostMapping(value = "/import", consumes = APPLICATION_NDJSON_VALUE, produces = APPLICATION_NDJSON_VALUE)
+    public void importProgramsFromNdjson(InputStream inputStream, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(APPLICATION_NDJSON_VALUE);
+
+        programNdjsonImporter.importPrograms(inputStream, response.getOutputStream());
+    }
+
     @GetMapping("/channelId/{channelId}")
     @ResponseStatus(HttpStatus.OK)
-    public List<Program> getAllProgramsByChannelId(@PathVariable(name = "channelId") String channelId) {
-        return programService.getAllProgramsByChannelId(channelId);
+    public List<Program> getAllProgramsByChannelId(
+            @PathVariable(name = "channelId") String channelId,
+            @RequestParam(name = "from", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(name = "to", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(name = "afterStartTime", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime afterStartTime,
+            @RequestParam(name = "afterId", required = false) String afterId,
+            @RequestParam(name = "limit", required = false) Integer limit,
+            @RequestParam(name = "view", defaultValue = "full") String view) {
+        ProgramView programView = parseView(view);
+
+        if (from == null && to == null && afterStartTime == null && afterId == null && limit == null) {
+            return programService.getAllProgramsByChannelId(channelId, programView);
+        }
+
+        return programService.getProgramsByChannelIdAndTimeWindow(channelId, from, to, afterStartTime, afterId, limit,
+                                                                  programView);
+    }
+
+    @DeleteMapping("/channelId/{channelId}")
+    @ResponseStatus(HttpStatus.OK)
+    public ProgramDeleteResult deleteProgramsByChannelIdAndTimeWindow(
+            @PathVariable(name = "channelId") String channelId,
+            @RequestParam(name = "from", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(name = "to", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return programService.deleteProgramsByChannelIdAndTimeWindow(channelId, from, to);
+    }
+
+    @DeleteMapping
+    @ResponseStatus(HttpStatus.OK)
+    public ProgramDeleteResult deleteProgramsEndingBefore(
+            @RequestParam(name = "before", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime before) {
+        return programService.deleteProgramsEndingBefore(before);
+    }
+
+    @GetMapping("/channelId/{channelId}/export")
+    public ResponseEntity<StreamingResponseBody> exportProgramsByChannelId(
+            @PathVariable(name = "channelId") String channelId,
+            @RequestParam(name = "format", defaultValue = "ndjson") String format) {
+        if (!"ndjson".equals(format) && !"json".equals(format)) {
+            throw new BusinessException("The export format must be ndjson or json!", "Format: " + format);
+        }
+
+        boolean asJsonArray = "json".equals(format);
+        StreamingResponseBody body =
+                outputStream -> programStreamExporter.exportPrograms(channelId, outputStream, asJsonArray);
+
+        return ResponseEntity.ok()
+                             .contentType(asJsonArray ?
+                                          MediaType.APPLICATION_JSON :
+                                          MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                             .body(body);
+    }
+
+    @GetMapping("/grid")
+    @ResponseStatus(HttpStatus.OK)
+    public List<ChannelPrograms> getProgramGrid(
+            @RequestParam(name = "from", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(name = "to", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(name = "channelIds", required = false) List<String> channelIds,
+            @RequestParam(name = "fromPosition", required = false) Integer fromPosition,
+            @RequestParam(name = "toPosition", required = false) Integer toPosition,
+            @RequestParam(name = "view", defaultValue = "full") String view) {
+        return programService.getProgramGrid(from, to, channelIds, fromPosition, toPosition, parseView(view));
+    }
+
+    @GetMapping("/now")
+    @ResponseStatus(HttpStatus.OK)
+    public List<ChannelNowAndNext> getNowAndNext(
+            @RequestParam(name = "at", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        return programService.getNowAndNext(at == null ? LocalDateTime.now() : at);
     }
 
     @GetMapping("/programId/{id}")
@@ -36,6 +151,12 @@ public class ProgramController extends AbstractController {
         return programService.getProgramById(id);
     }
 
+    @PostMapping("/programIds")
+    @ResponseStatus(HttpStatus.OK)
+    public ProgramLookupResult getProgramsByIds(@RequestBody List<String> ids) {
+        return programService.getProgramsByIds(ids);
+    }
+
     @DeleteMapping("/programId/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void deleteProgramById(@PathVariable(name = "id") String id) {
@@ -47,4 +168,12 @@ public class ProgramController extends AbstractController {
     public Program updateProgramById(@PathVariable(name = "id") String id, @RequestBody Program program) {
         return programService.updateProgramById(id, program);
     }
+
+    private ProgramView parseView(String view) {
+        if (!"summary".equals(view) && !"full".equals(view)) {
+            throw new BusinessException("The view must be summary or full!", "View: " + view);
+        }
+
+        return "summary".equals(view) ? ProgramView.SUMMARY : ProgramView.FULL;
+    }
 }
@@ -10,7 +10,6 @@ public class TechnicalError extends RestError {
     }
 
     public TechnicalError(Exception exception) {
-        super(exception);
         this.message = exception.getMessage();
     }
 
@@ -17,7 +17,7 @@ public class BusinessException extends RuntimeException {
     }
 
     public BusinessException(String messageKey, String... arguments) {
-        super(messageKey);
+        super(messageKey, null, false, StackTraces.ENABLED);
         this.messageKey = messageKey;
         this.arguments = arguments == null ? new String[0] : arguments;
     }
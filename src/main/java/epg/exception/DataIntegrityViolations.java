@@ -0,0 +1,24 @@
+package epg.exception;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+public final class DataIntegrityViolations {
+
+    private DataIntegrityViolations() {
+    }
+
+    // Falls back to the database message, which names the constraint, when Hibernate could not extract it.
+    public static String constraintName(DataIntegrityViolationException exception) {
+        Throwable cause = exception.getCause();
+        String constraintName = cause instanceof ConstraintViolationException ?
+                                ((ConstraintViolationException) cause).getConstraintName() :
+                                null;
+
+        return String.valueOf(constraintName == null ?
+                              exception.getMostSpecificCause().getMessage() :
+                              constraintName).toUpperCase(Locale.ROOT);
+    }
+}
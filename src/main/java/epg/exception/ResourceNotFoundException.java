@@ -11,6 +11,7 @@ public class ResourceNotFoundException extends RuntimeException {
     private ResourceNotFoundException() {}
 
     public ResourceNotFoundException(String messageKey, String... arguments) {
+        super(null, null, false, StackTraces.ENABLED);
         this.messageKey = messageKey;
         this.arguments = arguments == null ? new String[0] : arguments;
     }
@@ -0,0 +1,9 @@
+package epg.exception;
+
+final class StackTraces {
+
+    static final boolean ENABLED = Boolean.getBoolean("epg.exceptions.stack-traces");
+
+    private StackTraces() {
+    }
+}
@@ -14,7 +14,7 @@ public class Channel {
 
     @Id
     @GeneratedValue(generator = "uuid")
-    @GenericGenerator(name = "uuid", strategy = "uuid2")
+    @GenericGenerator(name = "uuid", strategy = "epg.model.TimeOrderedUuidGenerator")
     private String id;
 
     @NotNull
@@ -29,6 +29,13 @@ public class Channel {
     public Channel() {
     }
 
+    public Channel(String id, String name, Integer position, String category) {
+        this.id = id;
+        this.name = name;
+        this.position = position;
+        this.category = category;
+    }
+
     public Channel(Builder builder) {
         this.name = builder.name;
         this.position = builder.position;
@@ -0,0 +1,29 @@
+package epg.model;
+
+public class ChannelNowAndNext {
+
+    private String channelId;
+    private Program now;
+    private Program next;
+
+    public ChannelNowAndNext() {
+    }
+
+    public ChannelNowAndNext(String channelId, Program now, Program next) {
+        this.channelId = channelId;
+        this.now = now;
+        this.next = next;
+    }
+
+    public String getChannelId() {
+        return channelId;
+    }
+
+    public Program getNow() {
+        return now;
+    }
+
+    public Program getNext() {
+        return next;
+    }
+}
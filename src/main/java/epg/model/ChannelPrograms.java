@@ -0,0 +1,41 @@
+package epg.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ChannelPrograms {
+
+    private String channelId;
+    private String channelName;
+    private Integer channelPosition;
+    private List<Program> programs = new ArrayList<>();
+
+    public ChannelPrograms() {
+    }
+
+    public ChannelPrograms(String channelId) {
+        this.channelId = channelId;
+    }
+
+    public ChannelPrograms(Channel channel) {
+        this.channelId = channel.getId();
+        this.channelName = channel.getName();
+        this.channelPosition = channel.getPosition();
+    }
+
+    public String getChannelId() {
+        return channelId;
+    }
+
+    public String getChannelName() {
+        return channelName;
+    }
+
+    public Integer getChannelPosition() {
+        return channelPosition;
+    }
+
+    public List<Program> getPrograms() {
+        return programs;
+    }
+}
@@ -0,0 +1,23 @@
+package epg.model;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+public final class Ids {
+
+    // UUID.fromString alone accepts short or overlong groups, so the dashed 8-4-4-4-12 shape is checked first.
+    private static final Pattern UUID_PATTERN =
+            Pattern.compile("\\p{XDigit}{8}-\\p{XDigit}{4}-\\p{XDigit}{4}-\\p{XDigit}{4}-\\p{XDigit}{12}");
+
+    private Ids() {
+    }
+
+    public static Optional<String> canonical(String id) {
+        if (id == null || !UUID_PATTERN.matcher(id).matches()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(UUID.fromString(id).toString());
+    }
+}
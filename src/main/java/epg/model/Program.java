@@ -1,12 +1,18 @@
 package epg.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import org.hibernate.annotations.GenericGenerator;
 
+import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
 import javax.persistence.Table;
 import javax.validation.constraints.NotNull;
 import java.time.LocalDateTime;
@@ -17,19 +23,27 @@ public class Program {
 
     @Id
     @GeneratedValue(generator = "uuid")
-    @GenericGenerator(name = "uuid", strategy = "uuid2")
+    @GenericGenerator(name = "uuid", strategy = "epg.model.TimeOrderedUuidGenerator")
     private String id;
 
     @NotNull
+    @Column(name = "channel_id")
     private String channelId;
 
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "channel_id", insertable = false, updatable = false)
+    private Channel channel;
+
     @NotNull
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private String imageUrl;
 
     @NotNull
     private String title;
 
     @NotNull
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private String description;
 
     @NotNull
@@ -43,8 +57,28 @@ public class Program {
     public Program() {
     }
 
+    public Program(String id, String channelId, String imageUrl, String title, String description,
+                   LocalDateTime startTime, LocalDateTime endTime) {
+        this.id = id;
+        this.channelId = channelId;
+        this.imageUrl = imageUrl;
+        this.title = title;
+        this.description = description;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    public Program(String id, String channelId, String title, LocalDateTime startTime, LocalDateTime endTime) {
+        this.id = id;
+        this.channelId = channelId;
+        this.title = title;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
     public Program(Builder builder) {
         this.channelId = builder.channelId;
+        this.channel = builder.channel;
         this.imageUrl = builder.imageUrl;
         this.title = builder.title;
         this.description = builder.description;
@@ -64,6 +98,10 @@ public class Program {
         this.channelId = channelId;
     }
 
+    public Channel getChannel() {
+        return channel;
+    }
+
     public String getImageUrl() {
         return imageUrl;
     }
@@ -106,6 +144,7 @@ public class Program {
 
     public static class Builder {
         private String channelId;
+        private Channel channel;
         private String imageUrl;
         private String title;
         private String description;
@@ -122,6 +161,13 @@ public class Program {
             return this;
         }
 
+        public Builder withChannel(Channel channel) {
+            this.channel = channel;
+            this.channelId = channel.getId();
+
+            return this;
+        }
+
         public Builder withImageUrl(String imageUrl) {
             this.imageUrl = imageUrl;
 
@@ -0,0 +1,17 @@
+package epg.model;
+
+public class ProgramDeleteResult {
+
+    private int deleted;
+
+    public ProgramDeleteResult() {
+    }
+
+    public ProgramDeleteResult(int deleted) {
+        this.deleted = deleted;
+    }
+
+    public int getDeleted() {
+        return deleted;
+    }
+}
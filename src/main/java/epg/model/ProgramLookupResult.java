@@ -0,0 +1,25 @@
+package epg.model;
+
+import java.util.List;
+
+public class ProgramLookupResult {
+
+    private List<Program> programs;
+    private List<String> missingIds;
+
+    public ProgramLookupResult() {
+    }
+
+    public ProgramLookupResult(List<Program> programs, List<String> missingIds) {
+        this.programs = programs;
+        this.missingIds = missingIds;
+    }
+
+    public List<Program> getPrograms() {
+        return programs;
+    }
+
+    public List<String> getMissingIds() {
+        return missingIds;
+    }
+}
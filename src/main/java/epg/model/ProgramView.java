@@ -0,0 +1,6 @@
+package epg.model;
+
+public enum ProgramView {
+    SUMMARY,
+    FULL
+}
@@ -0,0 +1,39 @@
+package epg.model;
+
+import java.time.LocalDateTime;
+
+public class ScheduleSlot {
+
+    private final String id;
+    private final String channelId;
+    private final LocalDateTime startTime;
+    private final LocalDateTime endTime;
+
+    public ScheduleSlot(String id, String channelId, LocalDateTime startTime, LocalDateTime endTime) {
+        this.id = id;
+        this.channelId = channelId;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    public static ScheduleSlot of(Program program) {
+        return new ScheduleSlot(program.getId(), program.getChannelId(), program.getStartTime(),
+                                program.getEndTime());
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getChannelId() {
+        return channelId;
+    }
+
+    public LocalDateTime getStartTime() {
+        return startTime;
+    }
+
+    public LocalDateTime getEndTime() {
+        return endTime;
+    }
+}
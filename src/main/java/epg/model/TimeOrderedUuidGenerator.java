@@ -0,0 +1,22 @@
+package epg.model;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+import java.io.Serializable;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class TimeOrderedUuidGenerator implements IdentifierGenerator {
+
+    // Version 7 layout: the creation millisecond leads, so new ids land at the right edge of the primary key index.
+    @Override
+    public Serializable generate(SharedSessionContractImplementor session, Object object) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        long mostSignificantBits = System.currentTimeMillis() << 16 | 0x7000L | random.nextInt(0x1000);
+        long leastSignificantBits = random.nextLong() & 0x3fffffffffffffffL | 0x8000000000000000L;
+
+        return new UUID(mostSignificantBits, leastSignificantBits).toString();
+    }
+}
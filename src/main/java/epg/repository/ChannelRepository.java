@@ -5,6 +5,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface ChannelRepository extends JpaRepository<Channel, String> {
 
@@ -13,4 +15,13 @@ public interface ChannelRepository extends JpaRepository<Channel, String> {
 
     @Query("select c from Channel c where c.position = :position")
     Channel getChannelByPosition(int position);
+
+    @Query("select new epg.model.Channel(c.id, c.name, c.position, c.category) from Channel c")
+    List<Channel> getAllChannels();
+
+    @Query("select c.id from Channel c order by c.position")
+    List<String> getAllChannelIdsOrderedByPosition();
+
+    @Query("select c.id from Channel c where c.position between :fromPosition and :toPosition")
+    List<String> getChannelIdsByPositionRange(int fromPosition, int toPosition);
 }
@@ -1,19 +1,128 @@
 package epg.repository;
 
 import epg.model.Program;
+import epg.model.ScheduleSlot;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.QueryHint;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProgramRepository extends JpaRepository<Program, String> {
 
-    @Query("select p from Program p where p.startTime <= :endTime and p.endTime >= :startTime and p.channelId = :channelId")
-    Program getProgramByChannelIdAndTime(String channelId, LocalDateTime startTime, LocalDateTime endTime);
+    String SELECT_PROGRAM_VIEW = "select new epg.model.Program(p.id, p.channelId, p.imageUrl, p.title, " +
+            "p.description, p.startTime, p.endTime) from Program p ";
+    String SELECT_PROGRAM_SUMMARY =
+            "select new epg.model.Program(p.id, p.channelId, p.title, p.startTime, p.endTime) from Program p ";
+    String SELECT_SCHEDULE_SLOT =
+            "select new epg.model.ScheduleSlot(p.id, p.channelId, p.startTime, p.endTime) from Program p ";
+    String START_TIME_WINDOW =
+            "p.startTime >= :earliestStartTime and p.startTime < :to and p.endTime > :from ";
 
-    @Query("select p from Program p where p.channelId = :channelId")
+    @Query(SELECT_PROGRAM_VIEW + "where p.id in :ids")
+    List<Program> getProgramsByIds(Collection<String> ids);
+
+    @Query(SELECT_PROGRAM_VIEW + "where p.channelId = :channelId")
     List<Program> getAllProgramsByChannelId(String channelId);
+
+    @Query(SELECT_PROGRAM_SUMMARY + "where p.channelId = :channelId")
+    List<Program> getAllProgramSummariesByChannelId(String channelId);
+
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_PROGRAM_VIEW + "where p.channelId = :channelId order by p.startTime, p.id")
+    Stream<Program> streamAllProgramsByChannelId(String channelId);
+
+    @Query(SELECT_PROGRAM_VIEW + "where p.channelId = :channelId and " + START_TIME_WINDOW +
+            "order by p.startTime, p.id")
+    List<Program> getProgramsByChannelIdAndTimeWindow(String channelId, LocalDateTime earliestStartTime,
+                                                      LocalDateTime from, LocalDateTime to, Pageable pageable);
+
+    @Query(SELECT_PROGRAM_SUMMARY + "where p.channelId = :channelId and " + START_TIME_WINDOW +
+            "order by p.startTime, p.id")
+    List<Program> getProgramSummariesByChannelIdAndTimeWindow(String channelId, LocalDateTime earliestStartTime,
+                                                              LocalDateTime from, LocalDateTime to,
+                                                              Pageable pageable);
+
+    @Query(SELECT_PROGRAM_VIEW + "where p.channelId = :channelId and " + START_TIME_WINDOW +
+            "and (p.startTime > :afterStartTime or (p.startTime = :afterStartTime and p.id > :afterId)) " +
+            "order by p.startTime, p.id")
+    List<Program> getProgramsByChannelIdAndTimeWindowAfter(String channelId, LocalDateTime earliestStartTime,
+                                                           LocalDateTime from, LocalDateTime to,
+                                                           LocalDateTime afterStartTime, String afterId,
+                                                           Pageable pageable);
+
+    @Query(SELECT_PROGRAM_SUMMARY + "where p.channelId = :channelId and " + START_TIME_WINDOW +
+            "and (p.startTime > :afterStartTime or (p.startTime = :afterStartTime and p.id > :afterId)) " +
+            "order by p.startTime, p.id")
+    List<Program> getProgramSummariesByChannelIdAndTimeWindowAfter(String channelId, LocalDateTime earliestStartTime,
+                                                                   LocalDateTime from, LocalDateTime to,
+                                                                   LocalDateTime afterStartTime, String afterId,
+                                                                   Pageable pageable);
+
+    @Query(SELECT_PROGRAM_VIEW + "join p.channel c where c.id in :channelIds and " + START_TIME_WINDOW +
+            "order by p.channelId, p.startTime, p.id")
+    List<Program> getProgramsByChannelIdsAndTimeWindow(Collection<String> channelIds, LocalDateTime earliestStartTime,
+                                                       LocalDateTime from, LocalDateTime to);
+
+    @Query(SELECT_PROGRAM_SUMMARY + "join p.channel c where c.id in :channelIds and " + START_TIME_WINDOW +
+            "order by p.channelId, p.startTime, p.id")
+    List<Program> getProgramSummariesByChannelIdsAndTimeWindow(Collection<String> channelIds,
+                                                               LocalDateTime earliestStartTime, LocalDateTime from,
+                                                               LocalDateTime to);
+
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_READONLY, value = "true"))
+    @Query("select p from Program p join fetch p.channel c " +
+            "where c.position between :fromPosition and :toPosition and " + START_TIME_WINDOW +
+            "order by c.position, p.startTime, p.id")
+    List<Program> getProgramsByChannelPositionRangeAndTimeWindow(int fromPosition, int toPosition,
+                                                                 LocalDateTime earliestStartTime, LocalDateTime from,
+                                                                 LocalDateTime to);
+
+    @Query(SELECT_PROGRAM_SUMMARY + "join p.channel c " +
+            "where c.position between :fromPosition and :toPosition and " + START_TIME_WINDOW +
+            "order by c.position, p.startTime, p.id")
+    List<Program> getProgramSummariesByChannelPositionRangeAndTimeWindow(int fromPosition, int toPosition,
+                                                                         LocalDateTime earliestStartTime,
+                                                                         LocalDateTime from, LocalDateTime to);
+
+    @Query(SELECT_SCHEDULE_SLOT + "where p.id = :id")
+    Optional<ScheduleSlot> getScheduleSlotById(String id);
+
+    @Query(SELECT_SCHEDULE_SLOT + "where p.channelId = :channelId")
+    List<ScheduleSlot> getScheduleSlotsByChannelId(String channelId);
+
+    @Query(SELECT_SCHEDULE_SLOT + "join p.channel c where c.id in :channelIds and p.startTime >= :earliestStartTime " +
+            "and p.startTime <= :endTime and p.endTime >= :startTime")
+    List<ScheduleSlot> getScheduleSlotsByChannelIdsAndTime(Collection<String> channelIds,
+                                                           LocalDateTime earliestStartTime, LocalDateTime startTime,
+                                                           LocalDateTime endTime);
+
+    @Query("select min(p.startTime) from Program p where p.channelId in :channelIds and p.startTime < :time " +
+            "and p.endTime >= :time")
+    LocalDateTime getEarliestStartTimeOfProgramsAiringAt(Collection<String> channelIds, LocalDateTime time);
+
+    @Query(SELECT_SCHEDULE_SLOT + "where p.channelId = :channelId and p.startTime >= :from and p.startTime < :to")
+    List<ScheduleSlot> getScheduleSlotsByChannelIdAndStartTimeWindow(String channelId, LocalDateTime from,
+                                                                     LocalDateTime to, Pageable pageable);
+
+    @Query(SELECT_SCHEDULE_SLOT + "where p.endTime < :before")
+    List<ScheduleSlot> getScheduleSlotsEndingBefore(LocalDateTime before, Pageable pageable);
+
+    @Query("select p.id from Program p where p.id in :ids and p.channelId in :channelIds")
+    List<String> getProgramIdsByIdsAndChannelIds(Collection<String> ids, Collection<String> channelIds);
+
+    @Transactional
+    @Modifying
+    @Query("delete from Program p where p.id in :ids")
+    int deleteProgramsByIds(Collection<String> ids);
 }
@@ -0,0 +1,203 @@
+package epg.service.channel;
+
+import epg.model.Channel;
+import epg.repository.ChannelRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+@Component
+public class ChannelCache implements MeterBinder {
+
+    private final ChannelRepository channelRepository;
+    private final int maximumSize;
+    private final long timeToLiveMillis;
+
+    private final Map<String, CachedChannel> channelsById;
+    private final Map<String, String> idsByName = new HashMap<>();
+    private final Map<Integer, String> idsByPosition = new HashMap<>();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    @Autowired
+    public ChannelCache(ChannelRepository channelRepository,
+                        @Value("${epg.channel-cache.maximum-size:10000}") int maximumSize,
+                        @Value("${epg.channel-cache.time-to-live:10m}") Duration timeToLive) {
+        this.channelRepository = channelRepository;
+        this.maximumSize = maximumSize;
+        this.timeToLiveMillis = timeToLive.toMillis();
+        this.channelsById = new LinkedHashMap<String, CachedChannel>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedChannel> eldest) {
+                if (size() <= ChannelCache.this.maximumSize) {
+                    return false;
+                }
+
+                removeSecondaryKeys(eldest.getValue().channel);
+
+                return true;
+            }
+        };
+    }
+
+    public Optional<Channel> findById(String id) {
+        return findThrough(() -> getIfPresent(id), () -> channelRepository.findById(id).orElse(null));
+    }
+
+    public Optional<Channel> findByName(String name) {
+        return findThrough(() -> getIfPresent(idsByName.get(name)), () -> channelRepository.getChannelByName(name));
+    }
+
+    public Optional<Channel> findByPosition(int position) {
+        return findThrough(() -> getIfPresent(idsByPosition.get(position)),
+                           () -> channelRepository.getChannelByPosition(position));
+    }
+
+    public List<Channel> findAllById(Collection<String> ids) {
+        List<Channel> channels = new ArrayList<>();
+        List<String> missingIds = new ArrayList<>();
+
+        synchronized (this) {
+            for (String id : ids) {
+                Channel channel = getIfPresent(id);
+
+                if (channel == null) {
+                    missingIds.add(id);
+                } else {
+                    channels.add(channel);
+                }
+            }
+        }
+
+        hitCount.add(channels.size());
+        missCount.add(missingIds.size());
+
+        if (!missingIds.isEmpty()) {
+            for (Channel channel : channelRepository.findAllById(missingIds)) {
+                put(channel);
+                channels.add(channel);
+            }
+        }
+
+        return channels;
+    }
+
+    public synchronized void put(Channel channel) {
+        evict(channel.getId());
+
+        channelsById.put(channel.getId(), new CachedChannel(channel, System.currentTimeMillis() + timeToLiveMillis));
+        idsByName.put(channel.getName(), channel.getId());
+        idsByPosition.put(channel.getPosition(), channel.getId());
+    }
+
+    public synchronized void evict(String id) {
+        CachedChannel cachedChannel = channelsById.remove(id);
+
+        if (cachedChannel != null) {
+            removeSecondaryKeys(cachedChannel.channel);
+        }
+    }
+
+    public synchronized void evictAll() {
+        channelsById.clear();
+        idsByName.clear();
+        idsByPosition.clear();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("epg.channel.cache.requests", hitCount, LongAdder::sum).tag("result", "hit")
+                       .register(registry);
+        FunctionCounter.builder("epg.channel.cache.requests", missCount, LongAdder::sum).tag("result", "miss")
+                       .register(registry);
+        Gauge.builder("epg.channel.cache.size", this, ChannelCache::size).register(registry);
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public synchronized int size() {
+        return channelsById.size();
+    }
+
+    private Optional<Channel> findThrough(Supplier<Channel> cacheLookup, Supplier<Channel> repositoryLookup) {
+        Channel channel;
+
+        synchronized (this) {
+            channel = cacheLookup.get();
+        }
+
+        if (channel != null) {
+            hitCount.increment();
+
+            return Optional.of(channel);
+        }
+
+        missCount.increment();
+
+        channel = repositoryLookup.get();
+
+        if (channel != null) {
+            put(channel);
+        }
+
+        return Optional.ofNullable(channel);
+    }
+
+    private Channel getIfPresent(String id) {
+        if (id == null) {
+            return null;
+        }
+
+        CachedChannel cachedChannel = channelsById.get(id);
+
+        if (cachedChannel == null) {
+            return null;
+        }
+
+        if (cachedChannel.expiresAt < System.currentTimeMillis()) {
+            evict(id);
+
+            return null;
+        }
+
+        return cachedChannel.channel;
+    }
+
+    private void removeSecondaryKeys(Channel channel) {
+        idsByName.remove(channel.getName(), channel.getId());
+        idsByPosition.remove(channel.getPosition(), channel.getId());
+    }
+
+    private static class CachedChannel {
+
+        private final Channel channel;
+        private final long expiresAt;
+
+        private CachedChannel(Channel channel, long expiresAt) {
+            this.channel = channel;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
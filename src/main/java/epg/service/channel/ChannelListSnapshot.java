@@ -0,0 +1,26 @@
+package epg.service.channel;
+
+public class ChannelListSnapshot {
+
+    private final long generation;
+    private final String eTag;
+    private final byte[] body;
+
+    public ChannelListSnapshot(long generation, String eTag, byte[] body) {
+        this.generation = generation;
+        this.eTag = eTag;
+        this.body = body;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public String getETag() {
+        return eTag;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+}
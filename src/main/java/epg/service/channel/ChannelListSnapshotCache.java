@@ -0,0 +1,56 @@
+package epg.service.channel;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import epg.exception.TechnicalException;
+import epg.repository.ChannelRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class ChannelListSnapshotCache {
+
+    private final ChannelRepository channelRepository;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile ChannelListSnapshot snapshot;
+
+    @Autowired
+    public ChannelListSnapshotCache(ChannelRepository channelRepository, ObjectMapper objectMapper) {
+        this.channelRepository = channelRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    public ChannelListSnapshot get() {
+        ChannelListSnapshot currentSnapshot = snapshot;
+        long currentGeneration = generation.get();
+
+        if (currentSnapshot != null && currentSnapshot.getGeneration() == currentGeneration) {
+            return currentSnapshot;
+        }
+
+        ChannelListSnapshot rebuiltSnapshot = build(currentGeneration);
+
+        snapshot = rebuiltSnapshot;
+
+        return rebuiltSnapshot;
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    private ChannelListSnapshot build(long snapshotGeneration) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(channelRepository.getAllChannels());
+
+            return new ChannelListSnapshot(snapshotGeneration, "\"" + DigestUtils.md5DigestAsHex(body) + "\"", body);
+        } catch (JsonProcessingException e) {
+            throw new TechnicalException(e.getMessage());
+        }
+    }
+}
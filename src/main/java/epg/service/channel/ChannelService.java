@@ -11,4 +11,6 @@ public interface ChannelService {
     Channel createChannel(Channel channel);
 
     List<Channel> getAllChannels();
+
+    ChannelListSnapshot getAllChannelsSnapshot();
 }
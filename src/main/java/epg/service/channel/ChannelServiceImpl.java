@@ -1,72 +1,83 @@
 package epg.service.channel;
 
 import epg.exception.BusinessException;
+import epg.exception.DataIntegrityViolations;
 import epg.model.Channel;
 import epg.repository.ChannelRepository;
+import epg.validation.ValidationResult;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Service
 public class ChannelServiceImpl implements ChannelService {
 
+    static final String NAME_CONSTRAINT = "UX_CHANNELS_NAME";
+    static final String POSITION_CONSTRAINT = "UX_CHANNELS_POSITION";
+
     private final ChannelRepository channelRepository;
+    private final ChannelCache channelCache;
+    private final ChannelListSnapshotCache channelListSnapshotCache;
 
     @Autowired
-    public ChannelServiceImpl(ChannelRepository channelRepository) {
+    public ChannelServiceImpl(ChannelRepository channelRepository, ChannelCache channelCache,
+                              ChannelListSnapshotCache channelListSnapshotCache) {
         this.channelRepository = channelRepository;
+        this.channelCache = channelCache;
+        this.channelListSnapshotCache = channelListSnapshotCache;
     }
 
     @Override
     public Channel createChannel(Channel channel) {
-        verifyChannelIsValid(channel);
-        verifyNameIsValid(channel);
-        verifyPositionIsAvailable(channel);
+        ValidationResult validationResult = new ValidationResult();
+
+        ChannelValidator.validate(channel, validationResult);
+        validationResult.throwIfInvalid();
+
+        Channel createdChannel;
+
+        try {
+            createdChannel = channelRepository.saveAndFlush(channel);
+        } catch (DataIntegrityViolationException e) {
+            throw duplicatedChannelException(channel, e);
+        }
+
+        channelCache.put(createdChannel);
+        channelListSnapshotCache.invalidate();
 
-        return channelRepository.save(channel);
+        return createdChannel;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Channel> getAllChannels() {
-        return channelRepository.findAll();
+        return channelRepository.getAllChannels();
     }
 
-    private void verifyChannelIsValid(Channel channel) {
-        if (channel.getName() == null) {
-            throw new BusinessException("Channel needs to have a name!");
-        }
+    @Override
+    public ChannelListSnapshot getAllChannelsSnapshot() {
+        return channelListSnapshotCache.get();
+    }
 
-        if (channel.getPosition() == null) {
-            throw new BusinessException("Channel needs to have a position!");
-        }
+    private RuntimeException duplicatedChannelException(Channel channel, DataIntegrityViolationException exception) {
+        String violation = DataIntegrityViolations.constraintName(exception);
 
-        if (channel.getPosition() <= 0) {
-            throw new BusinessException("Channel needs to have a position bigger than 0!");
-        }
+        if (violation.contains(NAME_CONSTRAINT)) {
+            String name = channel.getName();
 
-        if (channel.getCategory() == null) {
-            throw new BusinessException("Channel needs to have a category!");
+            return new BusinessException("A channel with the name " + name + " already exists!", "Name: " + name);
         }
-    }
 
-    private void verifyNameIsValid(Channel channel) {
-        String name = channel.getName();
-        Channel duplicatedChannelName = channelRepository.getChannelByName(name);
+        if (violation.contains(POSITION_CONSTRAINT)) {
+            int position = channel.getPosition();
 
-        if (duplicatedChannelName != null) {
-            throw new BusinessException(
-                    "A channel with the name " + name + " already exists!", "Name: " + name);
+            return new BusinessException("A channel in the position " + position + " already exists!",
+                                         "Position: " + position);
         }
-    }
-
-    private void verifyPositionIsAvailable(Channel channel) {
-        int position = channel.getPosition();
-        Channel duplicatedChannelPosition = channelRepository.getChannelByPosition(position);
 
-        if (duplicatedChannelPosition != null) {
-            throw new BusinessException(
-                    "A channel in the position " + position + " already exists!", "Position: " + position);
-        }
+        return exception;
     }
 }
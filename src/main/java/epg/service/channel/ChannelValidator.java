@@ -0,0 +1,26 @@
+package epg.service.channel;
+
+import epg.model.Channel;
+import epg.validation.ValidationResult;
+
+final class ChannelValidator {
+
+    private ChannelValidator() {
+    }
+
+    static void validate(Channel channel, ValidationResult validationResult) {
+        if (channel.getName() == null) {
+            validationResult.addInvalid("Channel needs to have a name!");
+        }
+
+        if (channel.getPosition() == null) {
+            validationResult.addInvalid("Channel needs to have a position!");
+        } else if (channel.getPosition() <= 0) {
+            validationResult.addInvalid("Channel needs to have a position bigger than 0!");
+        }
+
+        if (channel.getCategory() == null) {
+            validationResult.addInvalid("Channel needs to have a category!");
+        }
+    }
+}
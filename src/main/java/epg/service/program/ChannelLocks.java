@@ -0,0 +1,62 @@
+package epg.service.program;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+@Component
+public class ChannelLocks {
+
+    private final ReentrantLock[] stripes;
+
+    @Autowired
+    public ChannelLocks(@Value("${epg.channel-locks.stripes:64}") int stripes) {
+        this.stripes = new ReentrantLock[stripes];
+
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public <T> T withLock(String channelId, Supplier<T> action) {
+        ReentrantLock lock = stripeFor(channelId);
+
+        lock.lock();
+
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public <T> T withLocks(Collection<String> channelIds, Supplier<T> action) {
+        TreeSet<Integer> stripeIndexes = new TreeSet<>();
+
+        channelIds.forEach(channelId -> stripeIndexes.add(stripeIndex(channelId)));
+        stripeIndexes.forEach(stripeIndex -> stripes[stripeIndex].lock());
+
+        try {
+            return action.get();
+        } finally {
+            stripeIndexes.descendingSet().forEach(stripeIndex -> stripes[stripeIndex].unlock());
+        }
+    }
+
+    boolean isLocked(String channelId) {
+        return stripeFor(channelId).isLocked();
+    }
+
+    private ReentrantLock stripeFor(String channelId) {
+        return stripes[stripeIndex(channelId)];
+    }
+
+    private int stripeIndex(String channelId) {
+        return (channelId.hashCode() & Integer.MAX_VALUE) % stripes.length;
+    }
+}
@@ -0,0 +1,78 @@
+package epg.service.program;
+
+import epg.validation.Violation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class ProgramImportItemResult {
+
+    private int index;
+    private Status status;
+    private String id;
+    private String messageKey;
+    private String[] arguments;
+    private List<Violation> violations;
+
+    public ProgramImportItemResult() {
+    }
+
+    private ProgramImportItemResult(int index, Status status, String id, String messageKey, String[] arguments,
+                                    List<Violation> violations) {
+        this.index = index;
+        this.status = status;
+        this.id = id;
+        this.messageKey = messageKey;
+        this.arguments = arguments;
+        this.violations = violations;
+    }
+
+    public static ProgramImportItemResult created(int index, String id) {
+        return new ProgramImportItemResult(index, Status.CREATED, id, null, null, null);
+    }
+
+    public static ProgramImportItemResult rejected(int index, String messageKey, String... arguments) {
+        return rejected(index, Collections.singletonList(Violation.invalid(messageKey, arguments)));
+    }
+
+    public static ProgramImportItemResult rejected(int index, List<Violation> violations) {
+        Violation violation = violations.get(0);
+
+        return new ProgramImportItemResult(index, Status.REJECTED, null, violation.getMessageKey(),
+                                           violation.getArguments(), new ArrayList<>(violations));
+    }
+
+    public ProgramImportItemResult withIndex(int index) {
+        return new ProgramImportItemResult(index, status, id, messageKey, arguments, violations);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getMessageKey() {
+        return messageKey;
+    }
+
+    public String[] getArguments() {
+        return arguments;
+    }
+
+    public List<Violation> getViolations() {
+        return violations;
+    }
+
+    public enum Status {
+        CREATED,
+        REJECTED
+    }
+}
@@ -0,0 +1,37 @@
+package epg.service.program;
+
+import java.util.List;
+
+public class ProgramImportResult {
+
+    private int created;
+    private int rejected;
+    private List<ProgramImportItemResult> items;
+
+    public ProgramImportResult() {
+    }
+
+    public ProgramImportResult(List<ProgramImportItemResult> items) {
+        this.items = items;
+
+        for (ProgramImportItemResult item : items) {
+            if (item.getStatus() == ProgramImportItemResult.Status.CREATED) {
+                created++;
+            } else {
+                rejected++;
+            }
+        }
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public List<ProgramImportItemResult> getItems() {
+        return items;
+    }
+}
@@ -0,0 +1,82 @@
+package epg.service.program;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import epg.model.Program;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+@Component
+public class ProgramNdjsonImporter {
+
+    static final int CHUNK_SIZE = 500;
+
+    private final ProgramService programService;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public ProgramNdjsonImporter(ProgramService programService, ObjectMapper objectMapper) {
+        this.programService = programService;
+        this.objectMapper = objectMapper;
+    }
+
+    public void importPrograms(InputStream inputStream, OutputStream outputStream) throws IOException {
+        try (MappingIterator<Program> programIterator = objectMapper.readerFor(Program.class).readValues(inputStream);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            List<Program> chunk = new ArrayList<>(CHUNK_SIZE);
+            List<Integer> chunkIndexes = new ArrayList<>(CHUNK_SIZE);
+            List<ProgramImportItemResult> unreadableItems = new ArrayList<>();
+            boolean readable = true;
+
+            for (int index = 0; readable && programIterator.hasNextValue(); index++) {
+                try {
+                    chunk.add(programIterator.nextValue());
+                    chunkIndexes.add(index);
+                } catch (JsonProcessingException e) {
+                    unreadableItems.add(ProgramImportItemResult.rejected(index, "Program could not be read!",
+                                                                         e.getOriginalMessage()));
+                    readable = !(e instanceof JsonParseException);
+                }
+
+                if (chunk.size() + unreadableItems.size() == CHUNK_SIZE) {
+                    writeChunkResult(generator, chunk, chunkIndexes, unreadableItems);
+                }
+            }
+
+            if (!chunk.isEmpty() || !unreadableItems.isEmpty()) {
+                writeChunkResult(generator, chunk, chunkIndexes, unreadableItems);
+            }
+        }
+    }
+
+    private void writeChunkResult(JsonGenerator generator, List<Program> chunk, List<Integer> chunkIndexes,
+                                  List<ProgramImportItemResult> unreadableItems) throws IOException {
+        List<ProgramImportItemResult> items = new ArrayList<>(unreadableItems);
+
+        for (ProgramImportItemResult item : programService.importPrograms(chunk).getItems()) {
+            items.add(item.withIndex(chunkIndexes.get(item.getIndex())));
+        }
+
+        items.sort(Comparator.comparingInt(ProgramImportItemResult::getIndex));
+
+        objectMapper.writeValue(generator, new ProgramImportResult(items));
+        generator.writeRaw('\n');
+        generator.flush();
+
+        chunk.clear();
+        chunkIndexes.clear();
+        unreadableItems.clear();
+    }
+}
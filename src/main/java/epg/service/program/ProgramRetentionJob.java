@@ -0,0 +1,53 @@
+package epg.service.program;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Component
+@ConditionalOnProperty(name = "epg.program-retention.enabled", havingValue = "true", matchIfMissing = true)
+public class ProgramRetentionJob {
+
+    private final ProgramService programService;
+    private final Duration retention;
+    private final int batchSize;
+    private final Duration batchPause;
+
+    private final Counter deletedCounter;
+    private final Timer runTimer;
+
+    @Autowired
+    public ProgramRetentionJob(ProgramService programService, MeterRegistry meterRegistry,
+                               @Value("${epg.program-retention.retention:14d}") Duration retention,
+                               @Value("${epg.program-retention.batch-size:500}") int batchSize,
+                               @Value("${epg.program-retention.batch-pause:200ms}") Duration batchPause) {
+        this.programService = programService;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.batchPause = batchPause;
+        this.deletedCounter = meterRegistry.counter("epg.program.retention.deleted");
+        this.runTimer = meterRegistry.timer("epg.program.retention.runs");
+    }
+
+    @Scheduled(initialDelayString = "${epg.program-retention.initial-delay:PT10M}",
+            fixedDelayString = "${epg.program-retention.interval:PT1H}")
+    public void pruneExpiredPrograms() {
+        runTimer.record(() -> pruneProgramsEndingBefore(LocalDateTime.now().minus(retention)));
+    }
+
+    int pruneProgramsEndingBefore(LocalDateTime before) {
+        int deleted = programService.deleteProgramsEndingBefore(before, batchSize, batchPause).getDeleted();
+
+        deletedCounter.increment(deleted);
+
+        return deleted;
+    }
+}
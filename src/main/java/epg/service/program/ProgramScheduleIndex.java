@@ -0,0 +1,150 @@
+package epg.service.program;
+
+import epg.model.Program;
+import epg.model.ScheduleSlot;
+import epg.repository.ProgramRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+@Component
+public class ProgramScheduleIndex {
+
+    private final ProgramRepository programRepository;
+    private final ChannelLocks channelLocks;
+
+    private final Map<String, NavigableMap<LocalDateTime, ScheduleSlot>> schedulesByChannelId =
+            new ConcurrentHashMap<>();
+    private final Map<String, ScheduleSlot> slotsByProgramId = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ProgramScheduleIndex(ProgramRepository programRepository, ChannelLocks channelLocks) {
+        this.programRepository = programRepository;
+        this.channelLocks = channelLocks;
+    }
+
+    public Optional<ScheduleSlot> findOverlappingSlot(
+            String channelId, LocalDateTime startTime, LocalDateTime endTime, String excludedProgramId) {
+        NavigableMap<LocalDateTime, ScheduleSlot> schedule = getSchedule(channelId);
+
+        // Slots of a channel never overlap, so the latest slot starting before the end time is the only candidate.
+        for (ScheduleSlot slot : schedule.headMap(endTime, true).descendingMap().values()) {
+            if (Objects.equals(slot.getId(), excludedProgramId)) {
+                continue;
+            }
+
+            return slot.getEndTime().isBefore(startTime) ? Optional.empty() : Optional.of(slot);
+        }
+
+        return Optional.empty();
+    }
+
+    public Optional<ScheduleSlot> findSlotAt(String channelId, LocalDateTime time) {
+        Map.Entry<LocalDateTime, ScheduleSlot> slot =
+                getSchedule(channelId).floorEntry(time);
+
+        return slot == null || !slot.getValue().getEndTime().isAfter(time) ?
+               Optional.empty() :
+               Optional.of(slot.getValue());
+    }
+
+    public Optional<ScheduleSlot> findPreviousSlot(String channelId, LocalDateTime time) {
+        Map.Entry<LocalDateTime, ScheduleSlot> slot =
+                getSchedule(channelId).lowerEntry(time);
+
+        return slot == null ? Optional.empty() : Optional.of(slot.getValue());
+    }
+
+    public Optional<ScheduleSlot> findNextSlot(String channelId, LocalDateTime time) {
+        Map.Entry<LocalDateTime, ScheduleSlot> slot =
+                getSchedule(channelId).higherEntry(time);
+
+        return slot == null ? Optional.empty() : Optional.of(slot.getValue());
+    }
+
+    public boolean isLoaded(String channelId) {
+        return schedulesByChannelId.containsKey(channelId);
+    }
+
+    public void put(Program program) {
+        remove(program.getId());
+
+        ScheduleSlot slot = ScheduleSlot.of(program);
+
+        schedulesByChannelId.computeIfPresent(slot.getChannelId(), (channelId, schedule) -> {
+            schedule.put(slot.getStartTime(), slot);
+            slotsByProgramId.put(slot.getId(), slot);
+
+            return schedule;
+        });
+    }
+
+    public void remove(String programId) {
+        ScheduleSlot slot = slotsByProgramId.remove(programId);
+
+        if (slot == null) {
+            return;
+        }
+
+        schedulesByChannelId.computeIfPresent(slot.getChannelId(), (channelId, schedule) -> {
+            schedule.remove(slot.getStartTime(), slot);
+
+            return schedule;
+        });
+    }
+
+    public void evictChannel(String channelId) {
+        channelLocks.withLock(channelId, () -> {
+            NavigableMap<LocalDateTime, ScheduleSlot> schedule = schedulesByChannelId.remove(channelId);
+
+            if (schedule != null) {
+                schedule.values().forEach(slot -> slotsByProgramId.remove(slot.getId(), slot));
+            }
+
+            return schedule;
+        });
+    }
+
+    public void evictAll() {
+        schedulesByChannelId.keySet().forEach(this::evictChannel);
+    }
+
+    private NavigableMap<LocalDateTime, ScheduleSlot> getSchedule(String channelId) {
+        NavigableMap<LocalDateTime, ScheduleSlot> schedule = schedulesByChannelId.get(channelId);
+
+        if (schedule != null) {
+            return schedule;
+        }
+
+        // Writers hold the channel lock while they change the database and this index, so a schedule loaded under
+        // it can not miss or resurrect a concurrent write.
+        return channelLocks.withLock(channelId, () -> {
+            NavigableMap<LocalDateTime, ScheduleSlot> loadedSchedule = schedulesByChannelId.get(channelId);
+
+            if (loadedSchedule == null) {
+                loadedSchedule = loadSchedule(channelId);
+                schedulesByChannelId.put(channelId, loadedSchedule);
+            }
+
+            return loadedSchedule;
+        });
+    }
+
+    private NavigableMap<LocalDateTime, ScheduleSlot> loadSchedule(String channelId) {
+        NavigableMap<LocalDateTime, ScheduleSlot> schedule = new ConcurrentSkipListMap<>();
+
+        for (ScheduleSlot slot : programRepository.getScheduleSlotsByChannelId(channelId)) {
+            schedule.put(slot.getStartTime(), slot);
+            slotsByProgramId.put(slot.getId(), slot);
+        }
+
+        return schedule;
+    }
+}
@@ -1,8 +1,16 @@
 package epg.service.program;
 
+import epg.model.ChannelNowAndNext;
+import epg.model.ChannelPrograms;
 import epg.model.Program;
+import epg.model.ProgramDeleteResult;
+import epg.model.ProgramLookupResult;
+import epg.model.ProgramView;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Component
@@ -10,11 +18,30 @@ public interface ProgramService {
 
     Program createProgram(Program program);
 
-    List<Program> getAllProgramsByChannelId(String channelId);
+    ProgramImportResult importPrograms(List<Program> programs);
+
+    List<Program> getAllProgramsByChannelId(String channelId, ProgramView view);
+
+    List<Program> getProgramsByChannelIdAndTimeWindow(String channelId, LocalDateTime from, LocalDateTime to,
+                                                      LocalDateTime afterStartTime, String afterId, Integer limit,
+                                                      ProgramView view);
+
+    List<ChannelPrograms> getProgramGrid(LocalDateTime from, LocalDateTime to, Collection<String> channelIds,
+                                         Integer fromPosition, Integer toPosition, ProgramView view);
+
+    List<ChannelNowAndNext> getNowAndNext(LocalDateTime time);
 
     Program getProgramById(String id);
 
+    ProgramLookupResult getProgramsByIds(Collection<String> ids);
+
     void deleteProgramById(String id);
 
+    ProgramDeleteResult deleteProgramsByChannelIdAndTimeWindow(String channelId, LocalDateTime from, LocalDateTime to);
+
+    ProgramDeleteResult deleteProgramsEndingBefore(LocalDateTime before);
+
+    ProgramDeleteResult deleteProgramsEndingBefore(LocalDateTime before, int batchSize, Duration batchPause);
+
     Program updateProgramById(String id, Program program);
 }
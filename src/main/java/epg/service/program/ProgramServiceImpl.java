@@ -1,140 +1,706 @@
 package epg.service.program;
 
 import epg.exception.BusinessException;
+import epg.exception.DataIntegrityViolations;
 import epg.exception.ResourceNotFoundException;
+import epg.model.Channel;
+import epg.model.ChannelNowAndNext;
+import epg.model.ChannelPrograms;
+import epg.model.Ids;
 import epg.model.Program;
+import epg.model.ProgramDeleteResult;
+import epg.model.ProgramLookupResult;
+import epg.model.ProgramView;
+import epg.model.ScheduleSlot;
 import epg.repository.ChannelRepository;
 import epg.repository.ProgramRepository;
+import epg.service.channel.ChannelCache;
+import epg.validation.ValidationResult;
+import epg.validation.Violation;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class ProgramServiceImpl implements ProgramService {
 
+    static final int DEFAULT_PAGE_LIMIT = 100;
+    static final int MAX_PAGE_LIMIT = 1000;
+    static final String CHANNEL_CONSTRAINT = "FK_PROGRAMS_CHANNEL_ID";
+    static final int MAX_IMPORT_SIZE = 10000;
+    static final int MAX_LOOKUP_SIZE = 10000;
+    static final int LOOKUP_CHUNK_SIZE = 1000;
+    static final int DELETE_CHUNK_SIZE = 1000;
+
     private final ChannelRepository channelRepository;
+    private final ChannelCache channelCache;
     private final ProgramRepository programRepository;
+    private final ProgramScheduleIndex programScheduleIndex;
+    private final ChannelLocks channelLocks;
+
+    private final Timer channelExistsTimer;
+    private final Timer overlapTimer;
+    private final Timer importScheduleTimer;
 
     @Autowired
-    public ProgramServiceImpl(ChannelRepository channelRepository, ProgramRepository programRepository) {
+    public ProgramServiceImpl(ChannelRepository channelRepository, ChannelCache channelCache,
+                              ProgramRepository programRepository, ProgramScheduleIndex programScheduleIndex,
+                              ChannelLocks channelLocks, MeterRegistry meterRegistry) {
         this.channelRepository = channelRepository;
+        this.channelCache = channelCache;
         this.programRepository = programRepository;
+        this.programScheduleIndex = programScheduleIndex;
+        this.channelLocks = channelLocks;
+        this.channelExistsTimer = validationTimer(meterRegistry, "channel_exists");
+        this.overlapTimer = validationTimer(meterRegistry, "overlap");
+        this.importScheduleTimer = validationTimer(meterRegistry, "import_schedule");
     }
 
-
     @Override
     public Program createProgram(Program program) {
-        verifyProgramIsValid(program);
-        verifyStartTimeBeforeEndTime(program);
-        verifyChannelExists(program);
-        verifyProgramTimeDoesNotOverlapExistingProgramTimeFromSameChannel(program);
+        ValidationResult validationResult = new ValidationResult();
+
+        ProgramValidator.validate(program, validationResult);
+        canonicalizeChannelId(program, validationResult);
+        validationResult.throwIfInvalid();
+
+        return channelLocks.withLock(program.getChannelId(), () -> {
+            validateProgramCanBeScheduled(program, validationResult);
+            validationResult.throwIfInvalid();
+
+            Program createdProgram = saveProgram(program);
 
-        return programRepository.save(program);
+            programScheduleIndex.put(createdProgram);
+
+            return createdProgram;
+        });
     }
 
     @Override
-    public List<Program> getAllProgramsByChannelId(String channelId) {
-        return programRepository.getAllProgramsByChannelId(channelId);
+    public ProgramImportResult importPrograms(List<Program> programs) {
+        if (programs.size() > MAX_IMPORT_SIZE) {
+            throw new BusinessException("An import can have at most " + MAX_IMPORT_SIZE + " programs!",
+                                        "Programs: " + programs.size());
+        }
+
+        ProgramImportItemResult[] itemResults = new ProgramImportItemResult[programs.size()];
+        List<Integer> validIndexes = new ArrayList<>();
+        ValidationResult validationResult = new ValidationResult();
+
+        for (int i = 0; i < programs.size(); i++) {
+            validationResult.clear();
+            ProgramValidator.validate(programs.get(i), validationResult);
+            canonicalizeChannelId(programs.get(i), validationResult);
+
+            if (validationResult.isValid()) {
+                validIndexes.add(i);
+            } else {
+                itemResults[i] = ProgramImportItemResult.rejected(i, validationResult.getViolations());
+            }
+        }
+
+        Set<String> channelIds =
+                validIndexes.stream().map(i -> programs.get(i).getChannelId()).collect(Collectors.toSet());
+
+        channelLocks.withLocks(channelIds, () -> {
+            List<Integer> acceptedIndexes = importScheduleTimer.record(
+                    () -> verifyImportedProgramsAreSchedulable(programs, validIndexes, itemResults));
+            List<Program> acceptedPrograms =
+                    acceptedIndexes.stream().map(programs::get).collect(Collectors.toList());
+
+            List<Program> createdPrograms = programRepository.saveAll(acceptedPrograms);
+
+            for (int i = 0; i < createdPrograms.size(); i++) {
+                Program createdProgram = createdPrograms.get(i);
+                int index = acceptedIndexes.get(i);
+
+                programScheduleIndex.put(createdProgram);
+                itemResults[index] = ProgramImportItemResult.created(index, createdProgram.getId());
+            }
+
+            return createdPrograms;
+        });
+
+        return new ProgramImportResult(Arrays.asList(itemResults));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Program> getAllProgramsByChannelId(String id, ProgramView view) {
+        Optional<String> channelId = Ids.canonical(id);
+
+        if (!channelId.isPresent()) {
+            return new ArrayList<>();
+        }
+
+        if (view == ProgramView.SUMMARY) {
+            return programRepository.getAllProgramSummariesByChannelId(channelId.get());
+        }
+
+        return programRepository.getAllProgramsByChannelId(channelId.get());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Program> getProgramsByChannelIdAndTimeWindow(String id, LocalDateTime from, LocalDateTime to,
+                                                             LocalDateTime afterStartTime, String cursorId,
+                                                             Integer limit, ProgramView view) {
+        verifyTimeWindowIsValid(from, to);
+        verifyCursorIsValid(afterStartTime, cursorId);
+
+        Pageable pageable = PageRequest.of(0, getPageLimit(limit));
+        String afterId = cursorId == null ? null : Ids.canonical(cursorId).orElseThrow(
+                () -> new BusinessException("The page cursor id must be a valid id!", "After id: " + cursorId));
+        String channelId = Ids.canonical(id).orElse(null);
+
+        if (channelId == null || !channelCache.findById(channelId).isPresent()) {
+            return new ArrayList<>();
+        }
+
+        LocalDateTime earliestStartTime = getEarliestStartTime(Collections.singletonList(channelId), from);
+
+        if (afterStartTime != null && afterStartTime.isAfter(earliestStartTime)) {
+            earliestStartTime = afterStartTime;
+        }
+
+        if (view == ProgramView.SUMMARY) {
+            return afterStartTime == null ?
+                   programRepository.getProgramSummariesByChannelIdAndTimeWindow(channelId, earliestStartTime, from,
+                                                                                 to, pageable) :
+                   programRepository.getProgramSummariesByChannelIdAndTimeWindowAfter(channelId, earliestStartTime,
+                                                                                      from, to, afterStartTime,
+                                                                                      afterId, pageable);
+        }
+
+        if (afterStartTime == null) {
+            return programRepository
+                    .getProgramsByChannelIdAndTimeWindow(channelId, earliestStartTime, from, to, pageable);
+        }
+
+        return programRepository.getProgramsByChannelIdAndTimeWindowAfter(channelId, earliestStartTime, from, to,
+                                                                          afterStartTime, afterId, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ChannelPrograms> getProgramGrid(LocalDateTime from, LocalDateTime to, Collection<String> channelIds,
+                                                Integer fromPosition, Integer toPosition, ProgramView view) {
+        verifyTimeWindowIsValid(from, to);
+
+        boolean hasPositionRange = fromPosition != null || toPosition != null;
+
+        if (channelIds != null && !channelIds.isEmpty() && hasPositionRange) {
+            throw new BusinessException("The grid can be filtered by channel ids or by a position range, not both!");
+        }
+
+        Map<String, ChannelPrograms> gridByChannelId = new LinkedHashMap<>();
+
+        if (channelIds != null && !channelIds.isEmpty()) {
+            // Malformed ids still get their empty grid row, but only well-formed ones reach the queries.
+            List<String> gridChannelIds = channelIds.stream().map(id -> Ids.canonical(id).orElse(id))
+                                                    .collect(Collectors.toList());
+            Set<String> validChannelIds = channelIds.stream().map(Ids::canonical).filter(Optional::isPresent)
+                                                    .map(Optional::get).collect(Collectors.toSet());
+            Map<String, Channel> channelsById = channelCache.findAllById(validChannelIds).stream().collect(
+                    Collectors.toMap(Channel::getId, channel -> channel));
+
+            for (String channelId : gridChannelIds) {
+                Channel channel = channelsById.get(channelId);
+
+                gridByChannelId.putIfAbsent(channelId, channel == null ?
+                                                       new ChannelPrograms(channelId) :
+                                                       new ChannelPrograms(channel));
+            }
+
+            if (!channelsById.isEmpty()) {
+                LocalDateTime earliestStartTime = getEarliestStartTime(channelsById.keySet(), from);
+
+                List<Program> programs = view == ProgramView.SUMMARY ?
+                                         programRepository.getProgramSummariesByChannelIdsAndTimeWindow(
+                                                 channelsById.keySet(), earliestStartTime, from, to) :
+                                         programRepository.getProgramsByChannelIdsAndTimeWindow(
+                                                 channelsById.keySet(), earliestStartTime, from, to);
+
+                programs.forEach(program -> gridByChannelId.get(program.getChannelId()).getPrograms().add(program));
+            }
+        } else {
+            int lowestPosition = fromPosition == null ? 0 : fromPosition;
+            int highestPosition = toPosition == null ? Integer.MAX_VALUE : toPosition;
+
+            if (lowestPosition > highestPosition) {
+                throw new BusinessException("The from position must not be after the to position!",
+                                            "From position: " + lowestPosition + "; To position: " + highestPosition);
+            }
+
+            LocalDateTime earliestStartTime = getEarliestStartTime(
+                    channelRepository.getChannelIdsByPositionRange(lowestPosition, highestPosition), from);
+
+            List<Program> programs = view == ProgramView.SUMMARY ?
+                                     programRepository.getProgramSummariesByChannelPositionRangeAndTimeWindow(
+                                             lowestPosition, highestPosition, earliestStartTime, from, to) :
+                                     programRepository.getProgramsByChannelPositionRangeAndTimeWindow(
+                                             lowestPosition, highestPosition, earliestStartTime, from, to);
+
+            programs.forEach(program -> gridByChannelId
+                    .computeIfAbsent(program.getChannelId(), channelId -> channelPrograms(program))
+                    .getPrograms().add(program));
+        }
+
+        return new ArrayList<>(gridByChannelId.values());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ChannelNowAndNext> getNowAndNext(LocalDateTime time) {
+        List<String> channelIds = channelRepository.getAllChannelIdsOrderedByPosition();
+        Map<String, ScheduleSlot[]> slotsByChannelId = new HashMap<>();
+        List<String> programIds = new ArrayList<>();
+
+        for (String channelId : channelIds) {
+            ScheduleSlot[] slots = {programScheduleIndex.findSlotAt(channelId, time).orElse(null),
+                                    programScheduleIndex.findNextSlot(channelId, time).orElse(null)};
+
+            for (ScheduleSlot slot : slots) {
+                if (slot != null) {
+                    programIds.add(slot.getId());
+                }
+            }
+
+            slotsByChannelId.put(channelId, slots);
+        }
+
+        Map<String, Program> programsById = programIds.isEmpty() ?
+                                            new HashMap<>() :
+                                            programRepository.getProgramsByIds(programIds).stream().collect(
+                                                    Collectors.toMap(Program::getId, program -> program));
+
+        List<ChannelNowAndNext> nowAndNext = new ArrayList<>(channelIds.size());
+
+        for (String channelId : channelIds) {
+            ScheduleSlot[] slots = slotsByChannelId.get(channelId);
+
+            Program now = slots[0] == null ? null : programsById.get(slots[0].getId());
+            Program next = slots[1] == null ? null : programsById.get(slots[1].getId());
+
+            nowAndNext.add(new ChannelNowAndNext(channelId, now, next));
+        }
+
+        return nowAndNext;
     }
 
     @Override
     public Program getProgramById(String id) {
-        return programRepository.findById(id).orElseThrow(
+        return Ids.canonical(id).flatMap(programRepository::findById).orElseThrow(
                 () -> new ResourceNotFoundException("No program found for this id: " + id, "Id: " + id));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public ProgramLookupResult getProgramsByIds(Collection<String> ids) {
+        List<String> distinctIds = ids.stream().filter(Objects::nonNull).map(id -> Ids.canonical(id).orElse(id))
+                                      .distinct().collect(Collectors.toList());
+
+        if (distinctIds.size() > MAX_LOOKUP_SIZE) {
+            throw new BusinessException("A lookup can have at most " + MAX_LOOKUP_SIZE + " program ids!",
+                                        "Ids: " + distinctIds.size());
+        }
+
+        // Malformed ids are never looked up and end up among the missing ones.
+        List<String> validIds =
+                distinctIds.stream().filter(id -> Ids.canonical(id).isPresent()).collect(Collectors.toList());
+        Map<String, Program> programsById = new HashMap<>();
+
+        for (int from = 0; from < validIds.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<String> chunk = validIds.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, validIds.size()));
+
+            programRepository.getProgramsByIds(chunk)
+                             .forEach(program -> programsById.put(program.getId(), program));
+        }
+
+        List<Program> programs = new ArrayList<>(programsById.size());
+        List<String> missingIds = new ArrayList<>();
+
+        for (String id : distinctIds) {
+            Program program = programsById.get(id);
+
+            if (program == null) {
+                missingIds.add(id);
+            } else {
+                programs.add(program);
+            }
+        }
+
+        return new ProgramLookupResult(programs, missingIds);
+    }
+
     @Override
     public void deleteProgramById(String id) {
-        programRepository.deleteById(id);
+        String programId = Ids.canonical(id).orElseThrow(
+                () -> new ResourceNotFoundException("No program found for this id: " + id, "Id: " + id));
+        int deleted;
+
+        do {
+            ScheduleSlot slot = programRepository.getScheduleSlotById(programId).orElseThrow(
+                    () -> new EmptyResultDataAccessException(
+                            String.format("No %s entity with id %s exists!", Program.class, programId), 1));
+
+            deleted = deleteScheduledPrograms(Collections.singletonList(slot));
+        } while (deleted == 0);
+    }
+
+    @Override
+    public ProgramDeleteResult deleteProgramsByChannelIdAndTimeWindow(String id, LocalDateTime from,
+                                                                      LocalDateTime to) {
+        verifyTimeWindowIsValid(from, to);
+
+        Optional<String> channelId = Ids.canonical(id);
+
+        if (!channelId.isPresent()) {
+            return new ProgramDeleteResult(0);
+        }
+
+        return deleteProgramsInChunks(pageable -> programRepository.getScheduleSlotsByChannelIdAndStartTimeWindow(
+                channelId.get(), from, to, pageable), DELETE_CHUNK_SIZE, Duration.ZERO);
+    }
+
+    @Override
+    public ProgramDeleteResult deleteProgramsEndingBefore(LocalDateTime before) {
+        return deleteProgramsEndingBefore(before, DELETE_CHUNK_SIZE, Duration.ZERO);
+    }
+
+    @Override
+    public ProgramDeleteResult deleteProgramsEndingBefore(LocalDateTime before, int batchSize, Duration batchPause) {
+        if (before == null) {
+            throw new BusinessException("The delete needs to have a before time!");
+        }
+
+        return deleteProgramsInChunks(pageable -> programRepository.getScheduleSlotsEndingBefore(before, pageable),
+                                      batchSize, batchPause);
     }
 
     @Override
     public Program updateProgramById(String id, Program program) {
-        Program programToBeUpdated = programRepository.findById(id).orElseThrow(
-                () -> new ResourceNotFoundException("Program with id " + id + " not found!", "Id: " + id));
+        String programId = Ids.canonical(id).orElseThrow(() -> programNotFound(id));
+
+        Ids.canonical(program.getChannelId()).ifPresent(program::setChannelId);
+
+        Optional<Program> updatedProgram;
+
+        do {
+            Program currentProgram = programRepository.findById(programId).orElseThrow(() -> programNotFound(id));
+
+            if (assertThatProgramUpdateHasNoChanges(currentProgram, program)) {
+                return currentProgram;
+            }
+
+            String previousChannelId = currentProgram.getChannelId();
+            String channelId = program.getChannelId() == null ? previousChannelId : program.getChannelId();
+
+            updatedProgram = channelLocks.withLocks(
+                    Arrays.asList(previousChannelId, channelId),
+                    () -> updateLockedProgram(id, programId, previousChannelId, program));
+        } while (!updatedProgram.isPresent());
 
-        boolean programUpdateHasNoChanges = assertThatProgramUpdateHasNoChanges(programToBeUpdated, program);
+        return updatedProgram.get();
+    }
+
+    private ChannelPrograms channelPrograms(Program program) {
+        if (program.getChannel() != null) {
+            return new ChannelPrograms(program.getChannel());
+        }
+
+        return channelCache.findById(program.getChannelId()).map(ChannelPrograms::new)
+                           .orElseGet(() -> new ChannelPrograms(program.getChannelId()));
+    }
+
+    private Optional<Program> updateLockedProgram(String id, String programId, String lockedChannelId,
+                                                  Program program) {
+        // Read again under the locks: a concurrent update can have moved the program off the locked channel.
+        Program programToBeUpdated = programRepository.findById(programId).orElseThrow(() -> programNotFound(id));
 
-        if (programUpdateHasNoChanges) {
-            return programToBeUpdated;
+        if (!programToBeUpdated.getChannelId().equals(lockedChannelId)) {
+            return Optional.empty();
         }
 
         setProgramUpdate(programToBeUpdated, program);
 
-        verifyStartTimeBeforeEndTime(programToBeUpdated);
-        verifyChannelExists(programToBeUpdated);
-        verifyProgramTimeDoesNotOverlapExistingProgramTimeFromSameChannel(programToBeUpdated);
+        ValidationResult validationResult = new ValidationResult();
 
-        programRepository.save(programToBeUpdated);
+        ProgramValidator.validateStartTimeBeforeEndTime(programToBeUpdated, validationResult);
+        validationResult.throwIfInvalid();
 
-        return programToBeUpdated;
+        validateProgramCanBeScheduled(programToBeUpdated, validationResult);
+        validationResult.throwIfInvalid();
+
+        saveProgram(programToBeUpdated);
+
+        programScheduleIndex.put(programToBeUpdated);
+
+        return Optional.of(programToBeUpdated);
     }
 
-    private void verifyProgramIsValid(Program program) {
-        if (program.getChannelId() == null) {
-            throw new BusinessException("Program needs to have a channel id!");
+    private ResourceNotFoundException programNotFound(String id) {
+        return new ResourceNotFoundException("Program with id " + id + " not found!", "Id: " + id);
+    }
+
+    private Program saveProgram(Program program) {
+        try {
+            return programRepository.save(program);
+        } catch (DataIntegrityViolationException e) {
+            if (!DataIntegrityViolations.constraintName(e).contains(CHANNEL_CONSTRAINT)) {
+                throw e;
+            }
+
+            Violation channelNotFound = channelNotFound(program.getChannelId());
+
+            throw new ResourceNotFoundException(channelNotFound.getMessageKey(), channelNotFound.getArguments());
         }
+    }
+
+    private static Timer validationTimer(MeterRegistry meterRegistry, String step) {
+        return Timer.builder("epg.program.validation").tag("step", step).register(meterRegistry);
+    }
 
-        if (program.getImageUrl() == null) {
-            throw new BusinessException("Program needs to have a image URL!");
+    private List<Integer> verifyImportedProgramsAreSchedulable(
+            List<Program> programs, List<Integer> validIndexes, ProgramImportItemResult[] itemResults) {
+        List<Integer> acceptedIndexes = new ArrayList<>();
+
+        if (validIndexes.isEmpty()) {
+            return acceptedIndexes;
         }
 
-        if (program.getTitle() == null) {
-            throw new BusinessException("Program needs to have a title!");
+        Set<String> channelIds =
+                validIndexes.stream().map(i -> programs.get(i).getChannelId()).collect(Collectors.toSet());
+        Set<String> existingChannelIds =
+                channelCache.findAllById(channelIds).stream().map(Channel::getId).collect(Collectors.toSet());
+
+        LocalDateTime startTime =
+                validIndexes.stream().map(i -> programs.get(i).getStartTime()).min(Comparator.naturalOrder()).get();
+        LocalDateTime endTime =
+                validIndexes.stream().map(i -> programs.get(i).getEndTime()).max(Comparator.naturalOrder()).get();
+
+        Map<String, NavigableMap<LocalDateTime, ScheduleSlot>> schedulesByChannelId = new HashMap<>();
+
+        LocalDateTime earliestStartTime = getEarliestStartTime(existingChannelIds, startTime);
+
+        for (ScheduleSlot slot : programRepository
+                .getScheduleSlotsByChannelIdsAndTime(existingChannelIds, earliestStartTime, startTime, endTime)) {
+            schedulesByChannelId.computeIfAbsent(slot.getChannelId(), channelId -> new TreeMap<>())
+                                .put(slot.getStartTime(), slot);
         }
 
-        if (program.getDescription() == null) {
-            throw new BusinessException("Program needs to have a description!");
+        validIndexes.sort(Comparator.comparing((Integer i) -> programs.get(i).getChannelId())
+                                    .thenComparing(i -> programs.get(i).getStartTime()));
+
+        for (int index : validIndexes) {
+            Program program = programs.get(index);
+
+            if (!existingChannelIds.contains(program.getChannelId())) {
+                itemResults[index] = ProgramImportItemResult
+                        .rejected(index, Collections.singletonList(channelNotFound(program.getChannelId())));
+
+                continue;
+            }
+
+            NavigableMap<LocalDateTime, ScheduleSlot> schedule =
+                    schedulesByChannelId.computeIfAbsent(program.getChannelId(), channelId -> new TreeMap<>());
+            Map.Entry<LocalDateTime, ScheduleSlot> previousSlot = schedule.floorEntry(program.getEndTime());
+
+            if (previousSlot != null && !previousSlot.getValue().getEndTime().isBefore(program.getStartTime())) {
+                itemResults[index] = ProgramImportItemResult
+                        .rejected(index, Collections.singletonList(overlappingProgram(previousSlot.getValue())));
+
+                continue;
+            }
+
+            schedule.put(program.getStartTime(), ScheduleSlot.of(program));
+            acceptedIndexes.add(index);
         }
 
-        if (program.getStartTime() == null) {
-            throw new BusinessException("Program needs to have a start time!");
+        return acceptedIndexes;
+    }
+
+    private ProgramDeleteResult deleteProgramsInChunks(Function<Pageable, List<ScheduleSlot>> nextChunk,
+                                                       int chunkSize, Duration pause) {
+        Pageable pageable = PageRequest.of(0, chunkSize);
+        int deleted = 0;
+        List<ScheduleSlot> slots;
+
+        do {
+            slots = nextChunk.apply(pageable);
+
+            if (!slots.isEmpty()) {
+                deleted += deleteScheduledPrograms(slots);
+            }
+        } while (slots.size() == chunkSize && pauseBetweenChunks(pause));
+
+        return new ProgramDeleteResult(deleted);
+    }
+
+    private int deleteScheduledPrograms(List<ScheduleSlot> slots) {
+        Set<String> channelIds = slots.stream().map(ScheduleSlot::getChannelId).collect(Collectors.toSet());
+        List<String> ids = slots.stream().map(ScheduleSlot::getId).collect(Collectors.toList());
+
+        return channelLocks.withLocks(channelIds, () -> {
+            // An update can move a program to another channel before the locks are taken; it is left to a later read.
+            List<String> lockedIds = programRepository.getProgramIdsByIdsAndChannelIds(ids, channelIds);
+
+            if (lockedIds.isEmpty()) {
+                return 0;
+            }
+
+            int deleted = programRepository.deleteProgramsByIds(lockedIds);
+
+            lockedIds.forEach(programScheduleIndex::remove);
+
+            return deleted;
+        });
+    }
+
+    private boolean pauseBetweenChunks(Duration pause) {
+        if (pause.isZero()) {
+            return true;
+        }
+
+        try {
+            Thread.sleep(pause.toMillis());
+
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            return false;
+        }
+    }
+
+    private LocalDateTime getEarliestStartTime(Collection<String> channelIds, LocalDateTime time) {
+        // Programs of a channel never overlap, so only the last one starting before the time can still be airing.
+        // Channels missing from the schedule index are bounded with one query instead of loading their history.
+        Map<Boolean, List<String>> channelIdsByLoaded =
+                channelIds.stream().collect(Collectors.partitioningBy(programScheduleIndex::isLoaded));
+        LocalDateTime earliestStartTime =
+                channelIdsByLoaded.get(true).stream()
+                                  .map(channelId -> programScheduleIndex.findPreviousSlot(channelId, time))
+                                  .filter(Optional::isPresent).map(slot -> slot.get().getStartTime())
+                                  .min(Comparator.naturalOrder()).orElse(time);
+
+        if (channelIdsByLoaded.get(false).isEmpty()) {
+            return earliestStartTime;
+        }
+
+        LocalDateTime airingStartTime =
+                programRepository.getEarliestStartTimeOfProgramsAiringAt(channelIdsByLoaded.get(false), time);
+
+        return airingStartTime != null && airingStartTime.isBefore(earliestStartTime) ?
+               airingStartTime :
+               earliestStartTime;
+    }
+
+    private void verifyTimeWindowIsValid(LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null) {
+            throw new BusinessException("The time window needs to have a from and a to time!");
+        }
+
+        if (!from.isBefore(to)) {
+            throw new BusinessException("The from time must be before the to time!",
+                                        "From: " + from + "; To: " + to);
         }
+    }
 
-        if (program.getEndTime() == null) {
-            throw new BusinessException("Program needs to have a end time!");
+    private void verifyCursorIsValid(LocalDateTime afterStartTime, String afterId) {
+        if ((afterStartTime == null) != (afterId == null)) {
+            throw new BusinessException("The page cursor needs to have both a start time and an id!");
         }
     }
 
-    private void verifyStartTimeBeforeEndTime(Program program) {
-        LocalDateTime startTime = program.getStartTime();
-        LocalDateTime endTime = program.getEndTime();
+    private int getPageLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_LIMIT;
+        }
 
-        if (startTime.isAfter(endTime)) {
-            throw new BusinessException("The start time must be before the end time!",
-                                        "Start time: " + startTime + "; End time: " +
-                                                endTime);
-        } else if (startTime.equals(endTime)) {
-            throw new BusinessException("The start time and the end time are the same!",
-                                        "Start time: " + startTime + "; End time: " +
-                                                endTime);
+        if (limit <= 0 || limit > MAX_PAGE_LIMIT) {
+            throw new BusinessException("The page limit must be between 1 and " + MAX_PAGE_LIMIT + "!",
+                                        "Limit: " + limit);
         }
+
+        return limit;
     }
 
-    private void verifyChannelExists(Program program) {
-        channelRepository.findById(program.getChannelId()).orElseThrow(
-                () -> new ResourceNotFoundException("Channel with id " + program.getChannelId() + " not found!",
-                                                    "Id: " + program.getChannelId()));
+    private void validateProgramCanBeScheduled(Program program, ValidationResult validationResult) {
+        if (validationResult.isValid()) {
+            channelExistsTimer.record(() -> validateChannelExists(program, validationResult));
+        }
+
+        if (validationResult.isValid()) {
+            overlapTimer.record(() -> validateProgramDoesNotOverlapProgramFromSameChannel(program, validationResult));
+        }
     }
 
-    private void verifyProgramTimeDoesNotOverlapExistingProgramTimeFromSameChannel(Program program) {
-        String channelId = program.getChannelId();
-        LocalDateTime startTime = program.getStartTime();
-        LocalDateTime endTime = program.getEndTime();
+    private void canonicalizeChannelId(Program program, ValidationResult validationResult) {
+        if (program.getChannelId() == null) {
+            return;
+        }
 
-        Program overlappingProgram = programRepository.getProgramByChannelIdAndTime(channelId, startTime, endTime);
+        Optional<String> channelId = Ids.canonical(program.getChannelId());
 
-        if (overlappingProgram != null) {
-            throw new BusinessException(
-                    "There is already a program starting at " + overlappingProgram.getStartTime() + " and ending at " +
-                            overlappingProgram.getEndTime(),
-                    "Start time: " + overlappingProgram.getStartTime() + "; End time: " +
-                            overlappingProgram.getEndTime());
+        if (channelId.isPresent()) {
+            program.setChannelId(channelId.get());
+        } else {
+            validationResult.add(channelNotFound(program.getChannelId()));
         }
     }
 
+    private void validateChannelExists(Program program, ValidationResult validationResult) {
+        if (!Ids.canonical(program.getChannelId()).flatMap(channelCache::findById).isPresent()) {
+            validationResult.add(channelNotFound(program.getChannelId()));
+        }
+    }
+
+    private void validateProgramDoesNotOverlapProgramFromSameChannel(Program program,
+                                                                     ValidationResult validationResult) {
+        programScheduleIndex
+                .findOverlappingSlot(program.getChannelId(), program.getStartTime(), program.getEndTime(),
+                                     program.getId())
+                .ifPresent(overlappingSlot -> validationResult.add(overlappingProgram(overlappingSlot)));
+    }
+
+    private Violation channelNotFound(String channelId) {
+        return Violation.notFound("Channel with id " + channelId + " not found!", "Id: " + channelId);
+    }
+
+    private Violation overlappingProgram(ScheduleSlot overlappingSlot) {
+        return Violation.invalid(
+                "There is already a program starting at " + overlappingSlot.getStartTime() + " and ending at " +
+                        overlappingSlot.getEndTime(),
+                "Start time: " + overlappingSlot.getStartTime() + "; End time: " +
+                        overlappingSlot.getEndTime());
+    }
+
     private boolean assertThatProgramUpdateHasNoChanges(Program programToBeUpdated, Program programUpdate) {
         return programToBeUpdated.getChannelId().equals(programUpdate.getChannelId()) &&
                 programToBeUpdated.getImageUrl().equals(programUpdate.getImageUrl()) &&
@@ -0,0 +1,74 @@
+package epg.service.program;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import epg.model.Ids;
+import epg.model.Program;
+import epg.repository.ProgramRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
+
+@Component
+public class ProgramStreamExporter {
+
+    static final int FLUSH_INTERVAL = 500;
+
+    private final ProgramRepository programRepository;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter programWriter;
+
+    @Autowired
+    public ProgramStreamExporter(ProgramRepository programRepository, ObjectMapper objectMapper) {
+        this.programRepository = programRepository;
+        this.objectMapper = objectMapper;
+        this.programWriter =
+                objectMapper.writerFor(Program.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Transactional(readOnly = true)
+    public void exportPrograms(String channelId, OutputStream outputStream, boolean asJsonArray) throws IOException {
+        try (Stream<Program> programs = Ids.canonical(channelId).map(programRepository::streamAllProgramsByChannelId)
+                                           .orElseGet(Stream::empty);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            if (asJsonArray) {
+                generator.writeStartArray();
+            }
+
+            int[] written = {0};
+
+            programs.forEach(program -> {
+                try {
+                    programWriter.writeValue(generator, program);
+
+                    if (!asJsonArray) {
+                        generator.writeRaw('\n');
+                    }
+
+                    if (++written[0] % FLUSH_INTERVAL == 0) {
+                        generator.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            if (asJsonArray) {
+                generator.writeEndArray();
+            }
+
+            generator.flush();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package epg.service.program;
+
+import epg.model.Program;
+import epg.validation.ValidationResult;
+
+import java.time.LocalDateTime;
+
+final class ProgramValidator {
+
+    private ProgramValidator() {
+    }
+
+    static void validate(Program program, ValidationResult validationResult) {
+        validateRequiredFields(program, validationResult);
+
+        if (program.getStartTime() != null && program.getEndTime() != null) {
+            validateStartTimeBeforeEndTime(program, validationResult);
+        }
+    }
+
+    static void validateRequiredFields(Program program, ValidationResult validationResult) {
+        if (program.getChannelId() == null) {
+            validationResult.addInvalid("Program needs to have a channel id!");
+        }
+
+        if (program.getImageUrl() == null) {
+            validationResult.addInvalid("Program needs to have a image URL!");
+        }
+
+        if (program.getTitle() == null) {
+            validationResult.addInvalid("Program needs to have a title!");
+        }
+
+        if (program.getDescription() == null) {
+            validationResult.addInvalid("Program needs to have a description!");
+        }
+
+        if (program.getStartTime() == null) {
+            validationResult.addInvalid("Program needs to have a start time!");
+        }
+
+        if (program.getEndTime() == null) {
+            validationResult.addInvalid("Program needs to have a end time!");
+        }
+    }
+
+    static void validateStartTimeBeforeEndTime(Program program, ValidationResult validationResult) {
+        LocalDateTime startTime = program.getStartTime();
+        LocalDateTime endTime = program.getEndTime();
+
+        if (startTime.isAfter(endTime)) {
+            validationResult.addInvalid("The start time must be before the end time!",
+                                        "Start time: " + startTime + "; End time: " + endTime);
+        } else if (startTime.equals(endTime)) {
+            validationResult.addInvalid("The start time and the end time are the same!",
+                                        "Start time: " + startTime + "; End time: " + endTime);
+        }
+    }
+}
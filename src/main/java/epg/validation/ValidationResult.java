@@ -0,0 +1,51 @@
+package epg.validation;
+
+import epg.exception.BusinessException;
+import epg.exception.ResourceNotFoundException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class ValidationResult {
+
+    private final List<Violation> violations = new ArrayList<>();
+
+    public void add(Violation violation) {
+        violations.add(violation);
+    }
+
+    public void addInvalid(String messageKey, String... arguments) {
+        violations.add(Violation.invalid(messageKey, arguments));
+    }
+
+    public boolean isValid() {
+        return violations.isEmpty();
+    }
+
+    public List<Violation> getViolations() {
+        return Collections.unmodifiableList(violations);
+    }
+
+    public Violation getFirstViolation() {
+        return violations.isEmpty() ? null : violations.get(0);
+    }
+
+    public void clear() {
+        violations.clear();
+    }
+
+    public void throwIfInvalid() {
+        Violation violation = getFirstViolation();
+
+        if (violation == null) {
+            return;
+        }
+
+        if (violation.getType() == Violation.Type.NOT_FOUND) {
+            throw new ResourceNotFoundException(violation.getMessageKey(), violation.getArguments());
+        }
+
+        throw new BusinessException(violation.getMessageKey(), violation.getArguments());
+    }
+}
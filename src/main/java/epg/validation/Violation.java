@@ -0,0 +1,42 @@
+package epg.validation;
+
+public class Violation {
+
+    private Type type;
+    private String messageKey;
+    private String[] arguments;
+
+    public Violation() {
+    }
+
+    private Violation(Type type, String messageKey, String[] arguments) {
+        this.type = type;
+        this.messageKey = messageKey;
+        this.arguments = arguments == null ? new String[0] : arguments;
+    }
+
+    public static Violation invalid(String messageKey, String... arguments) {
+        return new Violation(Type.INVALID, messageKey, arguments);
+    }
+
+    public static Violation notFound(String messageKey, String... arguments) {
+        return new Violation(Type.NOT_FOUND, messageKey, arguments);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getMessageKey() {
+        return messageKey;
+    }
+
+    public String[] getArguments() {
+        return arguments;
+    }
+
+    public enum Type {
+        INVALID,
+        NOT_FOUND
+    }
+}
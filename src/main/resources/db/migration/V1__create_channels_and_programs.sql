@@ -0,0 +1,18 @@
+CREATE TABLE channels
+(
+    id       CHAR(36)     NOT NULL PRIMARY KEY,
+    name     VARCHAR(255) NOT NULL,
+    position INTEGER      NOT NULL,
+    category VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE programs
+(
+    id          CHAR(36)      NOT NULL PRIMARY KEY,
+    channel_id  CHAR(36)      NOT NULL,
+    image_url   VARCHAR(1000) NOT NULL,
+    title       VARCHAR(255)  NOT NULL,
+    description VARCHAR(4000) NOT NULL,
+    start_time  TIMESTAMP     NOT NULL,
+    end_time    TIMESTAMP     NOT NULL
+);
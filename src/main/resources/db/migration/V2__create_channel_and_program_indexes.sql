@@ -0,0 +1,5 @@
+CREATE UNIQUE INDEX ux_channels_name ON channels (name);
+
+CREATE UNIQUE INDEX ux_channels_position ON channels (position);
+
+CREATE INDEX ix_programs_channel_id_start_time ON programs (channel_id, start_time);
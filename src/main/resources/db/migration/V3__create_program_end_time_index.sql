@@ -0,0 +1 @@
+CREATE INDEX ix_programs_end_time ON programs (end_time);
@@ -0,0 +1,5 @@
+ALTER TABLE channels ALTER COLUMN id UUID NOT NULL;
+
+ALTER TABLE programs ALTER COLUMN id UUID NOT NULL;
+
+ALTER TABLE programs ALTER COLUMN channel_id UUID NOT NULL;
@@ -0,0 +1 @@
+ALTER TABLE programs ADD CONSTRAINT fk_programs_channel_id FOREIGN KEY (channel_id) REFERENCES channels (id);
@@ -0,0 +1,111 @@
+package epg.benchmark;
+
+import epg.Application;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class BenchmarkDataset implements AutoCloseable {
+
+    static final int CHANNELS = 100;
+    static final LocalDateTime FIRST_START_TIME = LocalDateTime.of(2020, Month.JANUARY, 1, 0, 0, 0);
+
+    private static final int BATCH_SIZE = 10_000;
+
+    private final ConfigurableApplicationContext context;
+    private final String[] channelIds = new String[CHANNELS];
+    private final String[] firstProgramIds = new String[CHANNELS];
+    private final int hours;
+
+    private BenchmarkDataset(int programs) {
+        context = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties("spring.main.banner-mode=off", "logging.level.root=WARN",
+                            "spring.datasource.url=jdbc:h2:mem:benchmark" + programs)
+                .run();
+        hours = Math.max(1, programs / CHANNELS);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        populateChannels(jdbcTemplate);
+        populatePrograms(jdbcTemplate, programs);
+    }
+
+    public static BenchmarkDataset seed(int programs) {
+        return new BenchmarkDataset(programs);
+    }
+
+    public <T> T getBean(Class<T> beanClass) {
+        return context.getBean(beanClass);
+    }
+
+    public String getChannelId(int channel) {
+        return channelIds[channel % CHANNELS];
+    }
+
+    public String getFirstProgramId(int channel) {
+        return firstProgramIds[channel % CHANNELS];
+    }
+
+    public int getHours() {
+        return hours;
+    }
+
+    public LocalDateTime getStartTime(int hour) {
+        return FIRST_START_TIME.plusHours(hour % hours);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+    private void populateChannels(JdbcTemplate jdbcTemplate) {
+        List<Object[]> rows = new ArrayList<>(CHANNELS);
+
+        for (int i = 0; i < CHANNELS; i++) {
+            channelIds[i] = UUID.randomUUID().toString();
+            rows.add(new Object[]{channelIds[i], "Channel " + (i + 1), i + 1, "Sports"});
+        }
+
+        jdbcTemplate.batchUpdate("INSERT INTO channels (id, name, position, category) VALUES (?, ?, ?, ?)", rows);
+    }
+
+    private void populatePrograms(JdbcTemplate jdbcTemplate, int programs) {
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+
+        for (int i = 0; i < programs; i++) {
+            String id = UUID.randomUUID().toString();
+            LocalDateTime startTime = FIRST_START_TIME.plusHours(i / CHANNELS);
+
+            if (i < CHANNELS) {
+                firstProgramIds[i] = id;
+            }
+
+            rows.add(new Object[]{id, channelIds[i % CHANNELS], "http://cycloid.com/channel-image/",
+                                  "Program " + i, "Description of program " + i, Timestamp.valueOf(startTime),
+                                  Timestamp.valueOf(startTime.plusMinutes(59))});
+
+            if (rows.size() == BATCH_SIZE) {
+                insertPrograms(jdbcTemplate, rows);
+                rows.clear();
+            }
+        }
+
+        insertPrograms(jdbcTemplate, rows);
+    }
+
+    private void insertPrograms(JdbcTemplate jdbcTemplate, List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("INSERT INTO programs (id, channel_id, image_url, title, description, start_time, " +
+                                         "end_time) VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+}
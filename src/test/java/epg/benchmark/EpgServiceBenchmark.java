@@ -0,0 +1,131 @@
+package epg.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import epg.exception.BusinessException;
+import epg.model.Channel;
+import epg.model.Program;
+import epg.model.ProgramView;
+import epg.model.ScheduleSlot;
+import epg.service.channel.ChannelService;
+import epg.service.program.ProgramScheduleIndex;
+import epg.service.program.ProgramService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EpgServiceBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int programs;
+
+    private BenchmarkDataset dataset;
+    private ProgramService programService;
+    private ProgramScheduleIndex programScheduleIndex;
+    private ChannelService channelService;
+    private ObjectMapper objectMapper;
+    private List<Program> channelPrograms;
+    private int invocation;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataset = BenchmarkDataset.seed(programs);
+        programService = dataset.getBean(ProgramService.class);
+        programScheduleIndex = dataset.getBean(ProgramScheduleIndex.class);
+        channelService = dataset.getBean(ChannelService.class);
+        objectMapper = dataset.getBean(ObjectMapper.class);
+        channelPrograms = programService.getAllProgramsByChannelId(dataset.getChannelId(0), ProgramView.FULL);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataset.close();
+    }
+
+    @Benchmark
+    public Optional<ScheduleSlot> findOverlappingSlot() {
+        int hour = invocation++;
+        LocalDateTime startTime = dataset.getStartTime(hour).plusMinutes(10);
+
+        return programScheduleIndex
+                .findOverlappingSlot(dataset.getChannelId(hour), startTime, startTime.plusMinutes(30), null);
+    }
+
+    @Benchmark
+    public String createOverlappingProgram() {
+        int hour = invocation++;
+        LocalDateTime startTime = dataset.getStartTime(hour).plusMinutes(10);
+
+        Program program =
+                Program.Builder.programWith().withChannelId(dataset.getChannelId(hour))
+                               .withImageUrl("http://cycloid.com/channel-image/").withTitle("Overlapping program")
+                               .withDescription("Overlaps an existing program").withStartTime(startTime)
+                               .withEndTime(startTime.plusMinutes(30)).build();
+
+        try {
+            return programService.createProgram(program).getId();
+        } catch (BusinessException e) {
+            return e.getMessageKey();
+        }
+    }
+
+    @Benchmark
+    public Program updateProgramById() {
+        int channel = invocation++;
+        // Every program is updated once per round over the channels, so the title flips per round, not per call.
+        int round = channel / BenchmarkDataset.CHANNELS;
+
+        Program programUpdate =
+                Program.Builder.programWith().withTitle((round & 1) == 0 ? "Even title" : "Odd title").build();
+
+        return programService.updateProgramById(dataset.getFirstProgramId(channel), programUpdate);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public List<Program> getAllProgramsByChannelId() {
+        return programService.getAllProgramsByChannelId(dataset.getChannelId(invocation++), ProgramView.FULL);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public byte[] serializeChannelPrograms() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(channelPrograms);
+    }
+
+    @Benchmark
+    public String createChannelWithExistingName() {
+        Channel channel =
+                Channel.Builder.channelWith().withName("Channel 1").withPosition(BenchmarkDataset.CHANNELS + 1)
+                               .withCategory("Sports").build();
+
+        try {
+            return channelService.createChannel(channel).getId();
+        } catch (BusinessException e) {
+            return e.getMessageKey();
+        }
+    }
+}
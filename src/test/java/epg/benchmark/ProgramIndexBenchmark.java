@@ -0,0 +1,122 @@
+package epg.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.Random;
+import java.util.UUID;
+
+public class ProgramIndexBenchmark {
+
+    private static final int DEFAULT_PROGRAMS = 1_000_000;
+    private static final int CHANNELS = 100;
+    private static final int QUERIES = 200;
+    private static final int BATCH_SIZE = 10_000;
+    private static final LocalDateTime FIRST_START_TIME = LocalDateTime.of(2020, Month.JANUARY, 1, 0, 0, 0);
+
+    // Same predicate and order as ProgramRepository.getProgramsByChannelIdAndTimeWindow, the guide's window query.
+    private static final String WINDOW_QUERY =
+            "SELECT id FROM programs WHERE channel_id = ? AND start_time >= ? AND start_time < ? AND end_time > ? " +
+                    "ORDER BY start_time, id";
+
+    public static void main(String[] args) throws SQLException {
+        int programs = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PROGRAMS;
+
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:programIndexBenchmark", "sa", "")) {
+            String[] channelIds = createSchema(connection);
+
+            populatePrograms(connection, channelIds, programs);
+
+            double scanMillis = runWindowQueries(connection, channelIds, programs);
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE INDEX ix_programs_channel_id_start_time ON programs (channel_id, start_time)");
+            }
+
+            double seekMillis = runWindowQueries(connection, channelIds, programs);
+
+            System.out.printf("programs=%d channels=%d queries=%d%n", programs, CHANNELS, QUERIES);
+            System.out.printf("scan: %.3f ms/query%n", scanMillis);
+            System.out.printf("seek: %.3f ms/query%n", seekMillis);
+        }
+    }
+
+    private static String[] createSchema(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE programs (id UUID NOT NULL PRIMARY KEY, channel_id UUID NOT NULL, " +
+                                      "start_time TIMESTAMP NOT NULL, end_time TIMESTAMP NOT NULL)");
+        }
+
+        String[] channelIds = new String[CHANNELS];
+
+        for (int i = 0; i < CHANNELS; i++) {
+            channelIds[i] = UUID.randomUUID().toString();
+        }
+
+        return channelIds;
+    }
+
+    private static void populatePrograms(Connection connection, String[] channelIds, int programs)
+            throws SQLException {
+        connection.setAutoCommit(false);
+
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO programs (id, channel_id, start_time, end_time) VALUES (?, ?, ?, ?)")) {
+            for (int i = 0; i < programs; i++) {
+                LocalDateTime startTime = FIRST_START_TIME.plusHours(i / CHANNELS);
+
+                statement.setString(1, UUID.randomUUID().toString());
+                statement.setString(2, channelIds[i % CHANNELS]);
+                statement.setTimestamp(3, Timestamp.valueOf(startTime));
+                statement.setTimestamp(4, Timestamp.valueOf(startTime.plusMinutes(59)));
+                statement.addBatch();
+
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                }
+            }
+
+            statement.executeBatch();
+        }
+
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+
+    private static double runWindowQueries(Connection connection, String[] channelIds, int programs)
+            throws SQLException {
+        Random random = new Random(42);
+        int hours = Math.max(1, programs / CHANNELS);
+        long elapsedNanos = 0;
+
+        try (PreparedStatement statement = connection.prepareStatement(WINDOW_QUERY)) {
+            for (int i = 0; i < QUERIES; i++) {
+                LocalDateTime earliestStartTime = FIRST_START_TIME.plusHours(random.nextInt(hours));
+                LocalDateTime from = earliestStartTime.plusMinutes(10);
+
+                statement.setString(1, channelIds[random.nextInt(CHANNELS)]);
+                statement.setTimestamp(2, Timestamp.valueOf(earliestStartTime));
+                statement.setTimestamp(3, Timestamp.valueOf(from.plusHours(3)));
+                statement.setTimestamp(4, Timestamp.valueOf(from));
+
+                long start = System.nanoTime();
+
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        resultSet.getString(1);
+                    }
+                }
+
+                elapsedNanos += System.nanoTime() - start;
+            }
+        }
+
+        return elapsedNanos / 1_000_000.0 / QUERIES;
+    }
+}
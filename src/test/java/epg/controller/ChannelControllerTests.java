@@ -4,11 +4,14 @@ import com.jayway.jsonpath.JsonPath;
 import epg.model.Channel;
 import org.junit.Before;
 import org.junit.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.web.servlet.MvcResult;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -290,6 +293,45 @@ public class ChannelControllerTests extends AbstractTest {
         assertEquals(expectedJsonResponse, jsonResponse);
     }
 
+    @Test
+    public void getAllChannelsWithMatchingETagReturnsNotModified() throws Exception {
+        // Arrange
+        String createUri = "/epg/api/channels/create";
+        String getUri = "/epg/api/channels";
+
+        MvcResult mvcResultFirstGet = mvc.perform(get(getUri).accept(MediaType.APPLICATION_JSON))
+                                         .andExpect(status().isOk())
+                                         .andReturn();
+
+        String eTag = mvcResultFirstGet.getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Act
+        MvcResult mvcResultNotModified = mvc.perform(get(getUri).accept(MediaType.APPLICATION_JSON)
+                                                                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                                            .andExpect(status().isNotModified())
+                                            .andReturn();
+
+        Channel channelToBeCreated =
+                Channel.Builder.channelWith().withName("Channel 1").withPosition(1).withCategory("Sports").build();
+
+        mvc.perform(post(createUri).contentType(MediaType.APPLICATION_JSON_VALUE)
+                                   .content(super.mapToJson(channelToBeCreated))
+                                   .accept(MediaType.APPLICATION_JSON))
+           .andExpect(status().isCreated());
+
+        MvcResult mvcResultModified = mvc.perform(get(getUri).accept(MediaType.APPLICATION_JSON)
+                                                             .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                                         .andExpect(status().isOk())
+                                         .andReturn();
+
+        // Assert
+        assertNotNull(eTag);
+        assertEquals("", mvcResultNotModified.getResponse().getContentAsString());
+        assertNotEquals(eTag, mvcResultModified.getResponse().getHeader(HttpHeaders.ETAG));
+        assertEquals(Integer.valueOf(1),
+                     JsonPath.parse(mvcResultModified.getResponse().getContentAsString()).read("$.length()"));
+    }
+
     @Test
     public void getAllChannelsReturnsEmptyList() throws Exception {
         // Arrange
@@ -0,0 +1,46 @@
+package epg.controller;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.Assert.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The extra property gives this class its own cached context, so it also gets its own database: the shared one would
+// keep its rows while the context stays open and break the other controller tests.
+@TestPropertySource(properties = {"epg.hibernate-statistics.enabled=true",
+                                  "spring.datasource.url=jdbc:h2:mem:metricsDb"})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class MetricsControllerTests extends AbstractTest {
+
+    @Override
+    @Before
+    public void setUp() {
+        super.setUp();
+    }
+
+    @Test
+    public void prometheusEndpointExposesApplicationMetrics() throws Exception {
+        // Arrange
+        String uriProgramById = "/epg/api/programs/programId/36d23a70-82de-4dbb-8a18-14f7c97507fe";
+        String uriPrometheus = "/actuator/prometheus";
+
+        mvc.perform(get(uriProgramById).accept(MediaType.APPLICATION_JSON)).andExpect(status().isNotFound());
+
+        // Act
+        MvcResult mvcResultPrometheus = mvc.perform(get(uriPrometheus)).andExpect(status().isOk()).andReturn();
+
+        String prometheusResponse = mvcResultPrometheus.getResponse().getContentAsString();
+
+        // Assert
+        assertTrue(prometheusResponse.contains(
+                "epg_errors_total{exception=\"ResourceNotFoundException\",uri=\"/epg/api/programs/programId/{id}\",}"));
+        assertTrue(prometheusResponse.contains("epg_channel_cache_requests_total{result=\"hit\",} 0.0"));
+        assertTrue(prometheusResponse.contains("hibernate_query_executions_total"));
+    }
+}
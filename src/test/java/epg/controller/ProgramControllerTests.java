@@ -11,9 +11,14 @@ import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDateTime;
 import java.time.Month;
+import java.util.Arrays;
+import java.util.Locale;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
@@ -596,6 +601,88 @@ public class ProgramControllerTests extends AbstractTest {
         assertEquals(expectedJsonResponse, jsonResponseProgramOneChannelOne);
     }
 
+    @Test
+    public void importProgramsSuccessfully() throws Exception {
+        // Arrange
+        String uriProgramsImport = "/epg/api/programs/import";
+
+        String imageUrl = "http://cycloid.com/channel1-image/";
+        String title = "Best EPL Goals";
+        String description = "Review the amazing goals scored in the last English Premier League season!";
+        LocalDateTime startTime = LocalDateTime.of(2020, Month.JULY, 18, 11, 45, 47);
+        LocalDateTime endTime = LocalDateTime.of(2020, Month.JULY, 18, 12, 45, 47);
+
+        Program programChannelOne =
+                Program.Builder.programWith().withChannelId(channelIdRetrievedChannelOne).withImageUrl(imageUrl)
+                               .withTitle(title).withDescription(description).withStartTime(startTime)
+                               .withEndTime(endTime).build();
+
+        Program programChannelTwo =
+                Program.Builder.programWith().withChannelId(channelIdRetrievedChannelTwo).withImageUrl(imageUrl)
+                               .withTitle(title).withDescription(description).withStartTime(startTime)
+                               .withEndTime(endTime).build();
+
+        Program programOverlappingChannelOne =
+                Program.Builder.programWith().withChannelId(channelIdRetrievedChannelOne).withImageUrl(imageUrl)
+                               .withTitle(title).withDescription(description).withStartTime(startTime)
+                               .withEndTime(endTime).build();
+
+        String inputJsonPrograms =
+                super.mapToJson(Arrays.asList(programChannelOne, programChannelTwo, programOverlappingChannelOne));
+
+        // Act
+        MvcResult mvcResultImport = mvc.perform(
+                post(uriProgramsImport).contentType(MediaType.APPLICATION_JSON_VALUE).content(inputJsonPrograms)
+                                       .accept(MediaType.APPLICATION_JSON)).andExpect(status().isOk()).andReturn();
+
+        String jsonResponseImport = mvcResultImport.getResponse().getContentAsString();
+
+        // Assert
+        assertEquals(Integer.valueOf(2), JsonPath.parse(jsonResponseImport).read("$.created"));
+        assertEquals(Integer.valueOf(1), JsonPath.parse(jsonResponseImport).read("$.rejected"));
+        assertEquals("CREATED", JsonPath.parse(jsonResponseImport).read("$.items[0].status"));
+        assertEquals("CREATED", JsonPath.parse(jsonResponseImport).read("$.items[1].status"));
+        assertEquals("REJECTED", JsonPath.parse(jsonResponseImport).read("$.items[2].status"));
+        assertEquals("There is already a program starting at " + startTime + " and ending at " + endTime,
+                     JsonPath.parse(jsonResponseImport).read("$.items[2].messageKey"));
+    }
+
+    @Test
+    public void importProgramsFromNdjsonSuccessfully() throws Exception {
+        // Arrange
+        String uriProgramsImport = "/epg/api/programs/import";
+
+        String imageUrl = "http://cycloid.com/channel1-image/";
+        String title = "Best EPL Goals";
+        String description = "Review the amazing goals scored in the last English Premier League season!";
+        LocalDateTime startTime = LocalDateTime.of(2020, Month.JULY, 18, 11, 45, 47);
+        LocalDateTime endTime = LocalDateTime.of(2020, Month.JULY, 18, 12, 45, 47);
+
+        Program programChannelOne =
+                Program.Builder.programWith().withChannelId(channelIdRetrievedChannelOne).withImageUrl(imageUrl)
+                               .withTitle(title).withDescription(description).withStartTime(startTime)
+                               .withEndTime(endTime).build();
+
+        Program programChannelTwo =
+                Program.Builder.programWith().withChannelId(channelIdRetrievedChannelTwo).withImageUrl(imageUrl)
+                               .withTitle(title).withDescription(description).withStartTime(startTime)
+                               .withEndTime(endTime).build();
+
+        String inputNdjsonPrograms = super.mapToJson(programChannelOne) + "\n" + super.mapToJson(programChannelTwo);
+
+        // Act
+        MvcResult mvcResultImport = mvc.perform(
+                post(uriProgramsImport).contentType("application/x-ndjson").content(inputNdjsonPrograms)
+                                       .accept("application/x-ndjson")).andExpect(status().isOk()).andReturn();
+
+        String ndjsonResponseImport = mvcResultImport.getResponse().getContentAsString();
+
+        // Assert
+        assertEquals("application/x-ndjson", mvcResultImport.getResponse().getContentType());
+        assertEquals(Integer.valueOf(2), JsonPath.parse(ndjsonResponseImport.trim()).read("$.created"));
+        assertEquals(Integer.valueOf(0), JsonPath.parse(ndjsonResponseImport.trim()).read("$.rejected"));
+    }
+
     @Test
     public void getAllProgramsByChannelIdReturnsPopulatedList() throws Exception {
         // Arrange
@@ -640,6 +727,351 @@ public class ProgramControllerTests extends AbstractTest {
         assertEquals(expectedJsonResponse, jsonResponseProgramRetrieved);
     }
 
+    @Test
+    public void getAllProgramsByChannelIdWithTimeWindowReturnsProgramsInWindow() throws Exception {
+        // Arrange
+        String uriProgramsCreate = "/epg/api/programs/create";
+
+        String channelId = channelIdRetrievedChannelOne;
+        String imageUrl = "http://cycloid.com/channel1-image/";
+        String title = "Best EPL Goals";
+        String description = "Review the amazing goals scored in the last English Premier League season!";
+        LocalDateTime startTimeProgramOne = LocalDateTime.of(2020, Month.JULY, 18, 10, 0, 0);
+        LocalDateTime endTimeProgramOne = LocalDateTime.of(2020, Month.JULY, 18, 11, 0, 0);
+        LocalDateTime startTimeProgramTwo = LocalDateTime.of(2020, Month.JULY, 18, 12, 0, 0);
+        LocalDateTime endTimeProgramTwo = LocalDateTime.of(2020, Month.JULY, 18, 13, 0, 0);
+
+        Program programOneToBeCreated =
+                Program.Builder.programWith().withChannelId(channelId).withImageUrl(imageUrl).withTitle(title)
+                               .withDescription(description).withStartTime(startTimeProgramOne)
+                               .withEndTime(endTimeProgramOne).build();
+
+        Program programTwoToBeCreated =
+                Program.Builder.programWith().withChannelId(channelId).withImageUrl(imageUrl).withTitle(title)
+                               .withDescription(description).withStartTime(startTimeProgramTwo)
+                               .withEndTime(endTimeProgramTwo).build();
+
+        mvc.perform(post(uriProgramsCreate).contentType(MediaType.APPLICATION_JSON_VALUE)
+                                           .content(super.mapToJson(programOneToBeCreated))
+                                           .accept(MediaType.APPLICATION_JSON)).andExpect(status().isCreated());
+
+        MvcResult mvcResultProgramCreated = mvc.perform(
+                post(uriProgramsCreate).contentType(MediaType.APPLICATION_JSON_VALUE)
+                                       .content(super.mapToJson(programTwoToBeCreated))
+                                       .accept(MediaType.APPLICATION_JSON)).andExpect(status().isCreated()).andReturn();
+
+        String jsonResponseProgramCreated = mvcResultProgramCreated.getResponse().getContentAsString();
+        String id = JsonPath.parse(jsonResponseProgramCreated).read("$.id");
+
+        String uriProgramsGetAllProgramsByChannelId =
+                "/epg/api/programs/channelId/" + channelId + "?from=2020-07-18T11:30:00&to=2020-07-18T18:00:00";
+
+        // Act
+        MvcResult mvcResultProgramRetrieved = mvc.perform(
+                get(uriProgramsGetAllProgramsByChannelId).contentType(MediaType.APPLICATION_JSON_VALUE)
+                                                         .accept(MediaType.APPLICATION_JSON)).andExpect(status().isOk())
+                                                 .andReturn();
+
+        String jsonResponseProgramRetrieved = mvcResultProgramRetrieved.getResponse().getContentAsString();
+
+        String expectedJsonResponse =
+                "[{\"id\":" + "\"" + id + "\"" + ",\"channelId\":" + "\"" + channelId + "\"" + ",\"imageUrl\":" + "\"" +
+                        imageUrl + "\"" + ",\"title\":" + "\"" + title + "\"" + ",\"description\":" + "\"" +
+                        description + "\"" + ",\"startTime\":" + "\"" + startTimeProgramTwo + "\"" + ",\"endTime\":" +
+                        "\"" + endTimeProgramTwo + "\"" + "}]";
+
+        // Assert
+        assertEquals(expectedJsonResponse, jsonResponseProgramRetrieved);
+    }
+
+    @Test
+    public void getProgramGridReturnsProgramsGroupedByChannel() throws Exception {
+        // Arrange
+        String uriProgramsCreate = "/epg/api/programs/create";
+        String uriProgramsGrid = "/epg/api/programs/grid";
+
+        String imageUrl = "http://cycloid.com/channel1-image/";
+        String title = "Best EPL Goals";
+        String description = "Review the amazing goals scored in the last English Premier League season!";
+        LocalDateTime startTime = LocalDateTime.of(2020, Month.JULY, 18, 10, 0, 0);
+
+        for (String channelId : Arrays.asList(channelIdRetrievedChannelOne, channelIdRetrievedChannelTwo)) {
+            for (int hour = 0; hour < 3; hour++) {
+                Program program =
+                        Program.Builder.programWith().withChannelId(channelId).withImageUrl(imageUrl)
+                                       .withTitle(title).withDescription(description)
+                                       .withStartTime(startTime.plusHours(hour))
+                                       .withEndTime(startTime.plusHours(hour).plusMinutes(50)).build();
+
+                mvc.perform(post(uriProgramsCreate).contentType(MediaType.APPLICATION_JSON_VALUE)
+                                                   .content(super.mapToJson(program))
+                                                   .accept(MediaType.APPLICATION_JSON))
+                   .andExpect(status().isCreated());
+            }
+        }
+
+        // Act
+        MvcResult mvcResultGrid = mvc.perform(
+                get(uriProgramsGrid).param("from", "2020-07-18T10:30:00").param("to", "2020-07-18T12:00:00")
+                                    .accept(MediaType.APPLICATION_JSON)).andExpect(status().isOk()).andReturn();
+
+        String jsonResponseGrid = mvcResultGrid.getResponse().getContentAsString();
+
+        // Assert
+        assertEquals(Integer.valueOf(2), JsonPath.parse(jsonResponseGrid).read("$.length()", Integer.class));
+        assertEquals(channelIdRetrievedChannelOne, JsonPath.parse(jsonResponseGrid).read("$[0].channelId"));
+        assertEquals("Channel 1", JsonPath.parse(jsonResponseGrid).read("$[0].channelName"));
+        assertEquals(Integer.valueOf(1), JsonPath.parse(jsonResponseGrid).read("$[0].channelPosition", Integer.class));
+        assertEquals(Integer.valueOf(2),
+                     JsonPath.parse(jsonResponseGrid).read("$[0].programs.length()", Integer.class));
+        assertEquals(channelIdRetrievedChannelTwo, JsonPath.parse(jsonResponseGrid).read("$[1].channelId"));
+        assertEquals(Integer.valueOf(2),
+                     JsonPath.parse(jsonResponseGrid).read("$[1].programs.length()", Integer.class));
+    }
+
+    @Test
+    public void getProgramSummaryGridOmitsImageUrlAndDescription() throws Exception {
+        // Arrange
+        String uriProgramsCreate = "/epg/api/programs/create";
+        String uriProgramsGrid = "/epg/api/programs/grid";
+
+        String imageUrl = "http://cycloid.com/channel1-image/";
+        String title = "Best EPL Goals";
+        String description = "Review the amazing goals scored in the last English Premier League season!";
+        LocalDateTime startTime = LocalDateTime.of(2020, Month.JULY, 18, 10, 0, 0);
+
+        Program program =
+                Program.Builder.programWith().withChannelId(channelIdRetrievedChannelOne).withImageUrl(imageUrl)
+                               .withTitle(title).withDescription(description).withStartTime(startTime)
+                               .withEndTime(startTime.plusMinutes(50)).build();
+
+        mvc.perform(post(uriProgramsCreate).contentType(MediaType.APPLICATION_JSON_VALUE)
+                                           .content(super.mapToJson(program)).accept(MediaType.APPLICATION_JSON))
+           .andExpect(status().isCreated());
+
+        // Act
+        MvcResult mvcResultGrid = mvc.perform(
+                get(uriProgramsGrid).param("from", "2020-07-18T10:00:00").param("to", "2020-07-18T12:00:00")
+                                    .param("fromPosition", "1").param("toPosition", "2").param("view", "summary")
+                                    .accept(MediaType.APPLICATION_JSON)).andExpect(status().isOk()).andReturn();
+
+        String jsonResponseGrid = mvcResultGrid.getResponse().getContentAsString();
+
+        // Assert
+        assertEquals(Integer.valueOf(1), JsonPath.parse(jsonResponseGrid).read("$.length()", Integer.class));
+        assertEquals("Channel 1", JsonPath.parse(jsonResponseGrid).read("$[0].channelName"));
+        assertEquals(title, JsonPath.parse(jsonResponseGrid).read("$[0].programs[0].title"));
+        assertFalse(jsonResponseGrid.contains("imageUrl"));
+        assertFalse(jsonResponseGrid.contains("description"));
+    }
+
+    @Test
+    public void getAllProgramSummariesByChannelIdOmitsImageUrlAndDescription() throws Exception {
+        // Arrange
+        String uriProgramsCreate = "/epg/api/programs/create";
+        String uriProgramsGetAllProgramsByChannelId =
+                "/epg/api/programs/channelId/" + channelIdRetrievedChannelOne + "?view=summary";
+
+        String channelId = channelIdRetrievedChannelOne;
+        String title = "Best EPL Goals";
+        LocalDateTime startTime = LocalDateTime.of(2020, Month.JULY, 18, 11, 45, 47);
+        LocalDateTime endTime = LocalDateTime.of(2020, Month.JULY, 18, 12, 45, 47);
+
+        Program programToBeCreated =
+                Program.Builder.programWith().withChannelId(channelId).withImageUrl("http://cycloid.com/channel1/")
+                               .withTitle(title).withDescription("Review the amazing goals!")
+                               .withStartTime(startTime).withEndTime(endTime).build();
+
+        MvcResult mvcResultProgramCreated = mvc.perform(
+                post(uriProgramsCreate).contentType(MediaType.APPLICATION_JSON_VALUE)
+                                       .content(super.mapToJson(programToBeCreated))
+                                       .accept(MediaType.APPLICATION_JSON)).andExpect(status().isCreated()).andReturn();
+
+        String id = JsonPath.parse(mvcResultProgramCreated.getResponse().getContentAsString()).read("$.id");
+
+        // Act
+        MvcResult mvcResultProgramRetrieved = mvc.perform(
+                get(uriProgramsGetAllProgramsByChannelId).accept(MediaType.APPLICATION_JSON))
+                                                 .andExpect(status().isOk()).andReturn();
+
+        String jsonResponseProgramRetrieved = mvcResultProgramRetrieved.getResponse().getContentAsString();
+
+        String expectedJsonResponse =
+                "[{\"id\":" + "\"" + id + "\"" + ",\"channelId\":" + "\"" + channelId + "\"" + ",\"title\":" +
+                        "\"" + title + "\"" + ",\"startTime\":" + "\"" + startTime + "\"" + ",\"endTime\":" + "\"" +
+                        endTime + "\"" + "}]";
+
+        // Assert
+        assertEquals(expectedJsonResponse, jsonResponseProgramRetrieved);
+    }
+
+    @Test
+    public void getProgramGridWithInvalidViewFails() throws Exception {
+        // Arrange
+        String uriProgramsGrid = "/epg/api/programs/grid";
+
+        // Act
+        MvcResult mvcResultGrid = mvc.perform(
+                get(uriProgramsGrid).param("from", "2020-07-18T10:00:00").param("to", "2020-07-18T12:00:00")
+                                    .param("view", "compact").accept(MediaType.APPLICATION_JSON))
+                                     .andExpect(status().isInternalServerError()).andReturn();
+
+        String jsonResponseGrid = mvcResultGrid.getResponse().getContentAsString();
+
+        String expectedJsonResponse =
+                "{\"BusinessError\":{\"messageKey\":\"The view must be summary or full!\"," +
+                        "\"arguments\":[\"View: compact\"]}}";
+
+        // Assert
+        assertEquals(expectedJsonResponse, jsonResponseGrid);
+    }
+
+    @Test
+    public void getProgramGridWithoutTimeWindowFails() throws Exception {
+        // Arrange
+        String uriProgramsGrid = "/epg/api/programs/grid";
+
+        // Act
+        MvcResult mvcResultGrid = mvc.perform(
+                get(uriProgramsGrid).param("channelIds", channelIdRetrievedChannelOne)
+                                    .accept(MediaType.APPLICATION_JSON)).andExpect(status().isInternalServerError())
+                                     .andReturn();
+
+        String jsonResponseGrid = mvcResultGrid.getResponse().getContentAsString();
+
+        String expectedJsonResponse =
+                "{\"BusinessError\":{\"messageKey\":\"The time window needs to have a from and a to time!\"," +
+                        "\"arguments\":[]}}";
+
+        // Assert
+        assertEquals(expectedJsonResponse, jsonResponseGrid);
+    }
+
+    @Test
+    public void getNowAndNextReturnsCurrentAndNextProgramPerChannel() throws Exception {
+        // Arrange
+        String uriProgramsCreate = "/epg/api/programs/create";
+        String uriProgramsNow = "/epg/api/programs/now";
+
+        String channelId = channelIdRetrievedChannelOne;
+        String imageUrl = "http://cycloid.com/channel1-image/";
+        String description = "Review the amazing goals scored in the last English Premier League season!";
+
+        Program programNow =
+                Program.Builder.programWith().withChannelId(channelId).withImageUrl(imageUrl)
+                               .withTitle("Best EPL Goals").withDescription(description)
+                               .withStartTime(LocalDateTime.of(2020, Month.JULY, 18, 11, 0, 0))
+                               .withEndTime(LocalDateTime.of(2020, Month.JULY, 18, 12, 0, 0)).build();
+
+        Program programNext =
+                Program.Builder.programWith().withChannelId(channelId).withImageUrl(imageUrl)
+                               .withTitle("Best EPL Saves").withDescription(description)
+                               .withStartTime(LocalDateTime.of(2020, Month.JULY, 18, 12, 30, 0))
+                               .withEndTime(LocalDateTime.of(2020, Month.JULY, 18, 13, 30, 0)).build();
+
+        for (Program program : Arrays.asList(programNow, programNext)) {
+            mvc.perform(post(uriProgramsCreate).contentType(MediaType.APPLICATION_JSON_VALUE)
+                                               .content(super.mapToJson(program))
+                                               .accept(MediaType.APPLICATION_JSON))
+               .andExpect(status().isCreated());
+        }
+
+        // Act
+        MvcResult mvcResultNowAndNext = mvc.perform(
+                get(uriProgramsNow).param("at", "2020-07-18T11:30:00").accept(MediaType.APPLICATION_JSON))
+                                           .andExpect(status().isOk()).andReturn();
+
+        String jsonResponseNowAndNext = mvcResultNowAndNext.getResponse().getContentAsString();
+
+        // Assert
+        assertEquals(Integer.valueOf(2), JsonPath.parse(jsonResponseNowAndNext).read("$.length()", Integer.class));
+        assertEquals(channelIdRetrievedChannelOne, JsonPath.parse(jsonResponseNowAndNext).read("$[0].channelId"));
+        assertEquals("Best EPL Goals", JsonPath.parse(jsonResponseNowAndNext).read("$[0].now.title"));
+        assertEquals("Best EPL Saves", JsonPath.parse(jsonResponseNowAndNext).read("$[0].next.title"));
+        assertEquals(channelIdRetrievedChannelTwo, JsonPath.parse(jsonResponseNowAndNext).read("$[1].channelId"));
+        assertNull(JsonPath.parse(jsonResponseNowAndNext).read("$[1].now"));
+        assertNull(JsonPath.parse(jsonResponseNowAndNext).read("$[1].next"));
+    }
+
+    @Test
+    public void exportProgramsByChannelIdAsNdjsonSuccessfully() throws Exception {
+        // Arrange
+        String uriProgramsImport = "/epg/api/programs/import";
+        String uriProgramsExport = "/epg/api/programs/channelId/" + channelIdRetrievedChannelOne + "/export";
+
+        String imageUrl = "http://cycloid.com/channel1-image/";
+        String title = "Best EPL Goals";
+        String description = "Review the amazing goals scored in the last English Premier League season!";
+        LocalDateTime startTime = LocalDateTime.of(2020, Month.JULY, 18, 11, 45, 47);
+
+        Program programOne =
+                Program.Builder.programWith().withChannelId(channelIdRetrievedChannelOne).withImageUrl(imageUrl)
+                               .withTitle(title).withDescription(description).withStartTime(startTime.plusHours(1))
+                               .withEndTime(startTime.plusHours(2)).build();
+
+        Program programTwo =
+                Program.Builder.programWith().withChannelId(channelIdRetrievedChannelOne).withImageUrl(imageUrl)
+                               .withTitle(title).withDescription(description).withStartTime(startTime)
+                               .withEndTime(startTime.plusMinutes(30)).build();
+
+        mvc.perform(post(uriProgramsImport).contentType(MediaType.APPLICATION_JSON_VALUE)
+                                           .content(super.mapToJson(Arrays.asList(programOne, programTwo)))
+                                           .accept(MediaType.APPLICATION_JSON)).andExpect(status().isOk());
+
+        // Act
+        MvcResult mvcResultExportStarted =
+                mvc.perform(get(uriProgramsExport)).andExpect(request().asyncStarted()).andReturn();
+
+        MvcResult mvcResultExport =
+                mvc.perform(asyncDispatch(mvcResultExportStarted)).andExpect(status().isOk()).andReturn();
+
+        String[] ndjsonResponseExport = mvcResultExport.getResponse().getContentAsString().split("\n");
+
+        // Assert
+        assertEquals("application/x-ndjson", mvcResultExport.getResponse().getContentType());
+        assertEquals(2, ndjsonResponseExport.length);
+        assertEquals(startTime.toString(), JsonPath.parse(ndjsonResponseExport[0]).read("$.startTime"));
+        assertEquals(startTime.plusHours(1).toString(), JsonPath.parse(ndjsonResponseExport[1]).read("$.startTime"));
+    }
+
+    @Test
+    public void exportProgramsByChannelIdAsJsonArraySuccessfully() throws Exception {
+        // Arrange
+        String uriProgramsCreate = "/epg/api/programs/create";
+        String uriProgramsExport =
+                "/epg/api/programs/channelId/" + channelIdRetrievedChannelOne + "/export?format=json";
+
+        String imageUrl = "http://cycloid.com/channel1-image/";
+        String title = "Best EPL Goals";
+        String description = "Review the amazing goals scored in the last English Premier League season!";
+        LocalDateTime startTime = LocalDateTime.of(2020, Month.JULY, 18, 11, 45, 47);
+        LocalDateTime endTime = LocalDateTime.of(2020, Month.JULY, 18, 12, 45, 47);
+
+        Program programToBeCreated =
+                Program.Builder.programWith().withChannelId(channelIdRetrievedChannelOne).withImageUrl(imageUrl)
+                               .withTitle(title).withDescription(description).withStartTime(startTime)
+                               .withEndTime(endTime).build();
+
+        MvcResult mvcResultProgramCreated = mvc.perform(
+                post(uriProgramsCreate).contentType(MediaType.APPLICATION_JSON_VALUE)
+                                       .content(super.mapToJson(programToBeCreated))
+                                       .accept(MediaType.APPLICATION_JSON)).andExpect(status().isCreated()).andReturn();
+
+        String jsonResponseProgramCreated = mvcResultProgramCreated.getResponse().getContentAsString();
+
+        // Act
+        MvcResult mvcResultExportStarted =
+                mvc.perform(get(uriProgramsExport)).andExpect(request().asyncStarted()).andReturn();
+
+        MvcResult mvcResultExport =
+                mvc.perform(asyncDispatch(mvcResultExportStarted)).andExpect(status().isOk()).andReturn();
+
+        String jsonResponseExport = mvcResultExport.getResponse().getContentAsString();
+
+        // Assert
+        assertEquals("[" + jsonResponseProgramCreated + "]", jsonResponseExport);
+    }
+
     @Test
     public void getAllProgramsByChannelIdReturnsEmpty() throws Exception {
         // Arrange
@@ -705,6 +1137,199 @@ public class ProgramControllerTests extends AbstractTest {
         assertEquals(expectedJsonResponse, jsonResponseProgramRetrieved);
     }
 
+    @Test
+    public void getProgramByUppercaseIdReturnsCanonicalIds() throws Exception {
+        // Arrange
+        String uriProgramsCreate = "/epg/api/programs/create";
+
+        String channelId = channelIdRetrievedChannelOne;
+        String imageUrl = "http://cycloid.com/channel1-image/";
+        String title = "Best EPL Goals";
+        String description = "Review the amazing goals scored in the last English Premier League season!";
+        LocalDateTime startTime = LocalDateTime.of(2020, Month.JULY, 18, 11, 45, 47);
+        LocalDateTime endTime = LocalDateTime.of(2020, Month.JULY, 18, 12, 45, 47);
+
+        Program programToBeCreated =
+                Program.Builder.programWith().withChannelId(channelId.toUpperCase(Locale.ROOT)).withImageUrl(imageUrl)
+                               .withTitle(title).withDescription(description).withStartTime(startTime)
+                               .withEndTime(endTime).build();
+
+        String inputJsonProgram = super.mapToJson(programToBeCreated);
+
+        MvcResult mvcResultProgramCreated = mvc.perform(
+                post(uriProgramsCreate).contentType(MediaType.APPLICATION_JSON_VALUE).content(inputJsonProgram)
+                                       .accept(MediaType.APPLICATION_JSON)).andExpect(status().isCreated()).andReturn();
+
+        String jsonResponseProgramCreated = mvcResultProgramCreated.getResponse().getContentAsString();
+        String id = JsonPath.parse(jsonResponseProgramCreated).read("$.id");
+
+        String uriProgramsGetProgramById = "/epg/api/programs/programId/" + id.toUpperCase(Locale.ROOT);
+
+        // Act
+        MvcResult mvcResultProgramRetrieved = mvc.perform(
+                get(uriProgramsGetProgramById).contentType(MediaType.APPLICATION_JSON_VALUE)
+                                              .accept(MediaType.APPLICATION_JSON)).andExpect(status().isOk())
+                                                 .andReturn();
+
+        String jsonResponseProgramRetrieved = mvcResultProgramRetrieved.getResponse().getContentAsString();
+
+        String expectedJsonResponse =
+                "{\"id\":" + "\"" + id + "\"" + ",\"channelId\":" + "\"" + channelId + "\"" + ",\"imageUrl\":" + "\"" +
+                        imageUrl + "\"" + ",\"title\":" + "\"" + title + "\"" + ",\"description\":" + "\"" +
+                        description + "\"" + ",\"startTime\":" + "\"" + startTime + "\"" + ",\"endTime\":" + "\"" +
+                        endTime + "\"" + "}";
+
+        // Assert
+        assertEquals(expectedJsonResponse, jsonResponseProgramRetrieved);
+    }
+
+    @Test
+    public void createProgramWithUppercaseChannelIdThatOverlapsSameChannelFails() throws Exception {
+        // Arrange
+        String uriPrograms = "/epg/api/programs/create";
+
+        String channelId = channelIdRetrievedChannelOne;
+        String imageUrl = "http://cycloid.com/channel1-image/";
+        String title = "Best EPL Goals";
+        String description = "Review the amazing goals scored in the last English Premier League season!";
+        LocalDateTime startTimeProgramOne = LocalDateTime.of(2020, Month.JULY, 18, 11, 45, 47);
+        LocalDateTime endTimeProgramOne = LocalDateTime.of(2020, Month.JULY, 18, 12, 45, 47);
+        LocalDateTime startTimeProgramTwo = LocalDateTime.of(2020, Month.JULY, 18, 12, 15, 47);
+        LocalDateTime endTimeProgramTwo = LocalDateTime.of(2020, Month.JULY, 18, 13, 15, 47);
+
+        Program programOneToBeCreated =
+                Program.Builder.programWith().withChannelId(channelId).withImageUrl(imageUrl).withTitle(title)
+                               .withDescription(description).withStartTime(startTimeProgramOne)
+                               .withEndTime(endTimeProgramOne).build();
+
+        mvc.perform(post(uriPrograms).contentType(MediaType.APPLICATION_JSON_VALUE)
+                                     .content(super.mapToJson(programOneToBeCreated))
+                                     .accept(MediaType.APPLICATION_JSON)).andExpect(status().isCreated());
+
+        Program programTwoToBeCreated =
+                Program.Builder.programWith().withChannelId(channelId.toUpperCase(Locale.ROOT)).withImageUrl(imageUrl)
+                               .withTitle(title).withDescription(description).withStartTime(startTimeProgramTwo)
+                               .withEndTime(endTimeProgramTwo).build();
+
+        // Act
+        MvcResult mvcResultProgramTwo = mvc.perform(
+                post(uriPrograms).contentType(MediaType.APPLICATION_JSON_VALUE)
+                                 .content(super.mapToJson(programTwoToBeCreated))
+                                 .accept(MediaType.APPLICATION_JSON)).andExpect(status().isInternalServerError())
+                                           .andReturn();
+
+        String jsonResponseProgramTwo = mvcResultProgramTwo.getResponse().getContentAsString();
+
+        String expectedJsonResponse =
+                "{\"BusinessError\":{\"messageKey\":\"There is already a program starting at " +
+                        startTimeProgramOne + " and ending at " + endTimeProgramOne +
+                        "\",\"arguments\":[\"Start time: " + startTimeProgramOne + "; End time: " +
+                        endTimeProgramOne + "\"]}}";
+
+        // Assert
+        assertEquals(expectedJsonResponse, jsonResponseProgramTwo);
+    }
+
+    @Test
+    public void getProgramByMalformedIdFails() throws Exception {
+        // Arrange
+        String id = "not-a-program-id";
+
+        String uriProgramsGetProgramById = "/epg/api/programs/programId/" + id;
+
+        // Act
+        MvcResult mvcResultProgramRetrieved = mvc.perform(
+                get(uriProgramsGetProgramById).contentType(MediaType.APPLICATION_JSON_VALUE)
+                                              .accept(MediaType.APPLICATION_JSON)).andExpect(status().isNotFound())
+                                                 .andReturn();
+
+        String jsonResponseProgramRetrieved = mvcResultProgramRetrieved.getResponse().getContentAsString();
+
+        String expectedJsonResponse = "{\"ResourceNotFoundError\":{\"messageKey\":\"No program found for this id: " +
+                id + "\",\"arguments\":[\"Id: " + id + "\"]}}";
+
+        // Assert
+        assertEquals(expectedJsonResponse, jsonResponseProgramRetrieved);
+    }
+
+    @Test
+    public void createProgramWithMalformedChannelIdFails() throws Exception {
+        // Arrange
+        String uriPrograms = "/epg/api/programs/create";
+
+        String channelId = "not-a-channel-id";
+        String imageUrl = "http://cycloid.com/channel1-image/";
+        String title = "Best EPL Goals";
+        String description = "Review the amazing goals scored in the last English Premier League season!";
+        LocalDateTime startTime = LocalDateTime.of(2020, Month.JULY, 18, 11, 45, 47);
+        LocalDateTime endTime = LocalDateTime.of(2020, Month.JULY, 18, 12, 45, 47);
+
+        Program programToBeCreated =
+                Program.Builder.programWith().withChannelId(channelId).withImageUrl(imageUrl).withTitle(title)
+                               .withDescription(description).withStartTime(startTime).withEndTime(endTime).build();
+
+        // Act
+        MvcResult mvcResultProgram = mvc.perform(
+                post(uriPrograms).contentType(MediaType.APPLICATION_JSON_VALUE)
+                                 .content(super.mapToJson(programToBeCreated))
+                                 .accept(MediaType.APPLICATION_JSON)).andExpect(status().isNotFound()).andReturn();
+
+        String jsonResponseProgram = mvcResultProgram.getResponse().getContentAsString();
+
+        String expectedJsonResponse = "{\"ResourceNotFoundError\":{\"messageKey\":\"Channel with id " + channelId +
+                " not found!\",\"arguments\":[\"Id: " + channelId + "\"]}}";
+
+        // Assert
+        assertEquals(expectedJsonResponse, jsonResponseProgram);
+    }
+
+    @Test
+    public void getProgramsByIdsSuccessfully() throws Exception {
+        // Arrange
+        String uriProgramsCreate = "/epg/api/programs/create";
+
+        String channelId = channelIdRetrievedChannelOne;
+        String imageUrl = "http://cycloid.com/channel1-image/";
+        String title = "Best EPL Goals";
+        String description = "Review the amazing goals scored in the last English Premier League season!";
+        LocalDateTime startTime = LocalDateTime.of(2020, Month.JULY, 18, 11, 45, 47);
+        LocalDateTime endTime = LocalDateTime.of(2020, Month.JULY, 18, 12, 45, 47);
+
+        Program programToBeCreated =
+                Program.Builder.programWith().withChannelId(channelId).withImageUrl(imageUrl).withTitle(title)
+                               .withDescription(description).withStartTime(startTime).withEndTime(endTime).build();
+
+        String inputJsonProgram = super.mapToJson(programToBeCreated);
+
+        MvcResult mvcResultProgramCreated = mvc.perform(
+                post(uriProgramsCreate).contentType(MediaType.APPLICATION_JSON_VALUE).content(inputJsonProgram)
+                                       .accept(MediaType.APPLICATION_JSON)).andExpect(status().isCreated()).andReturn();
+
+        String jsonResponseProgramCreated = mvcResultProgramCreated.getResponse().getContentAsString();
+        String id = JsonPath.parse(jsonResponseProgramCreated).read("$.id");
+        String missingId = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
+
+        String uriProgramsGetProgramsByIds = "/epg/api/programs/programIds";
+
+        // Act
+        MvcResult mvcResultProgramsRetrieved = mvc.perform(
+                post(uriProgramsGetProgramsByIds).contentType(MediaType.APPLICATION_JSON_VALUE)
+                                                 .content(super.mapToJson(Arrays.asList(id, missingId)))
+                                                 .accept(MediaType.APPLICATION_JSON)).andExpect(status().isOk())
+                                                 .andReturn();
+
+        String jsonResponseProgramsRetrieved = mvcResultProgramsRetrieved.getResponse().getContentAsString();
+
+        String expectedJsonResponse =
+                "{\"programs\":[{\"id\":" + "\"" + id + "\"" + ",\"channelId\":" + "\"" + channelId + "\"" +
+                        ",\"imageUrl\":" + "\"" + imageUrl + "\"" + ",\"title\":" + "\"" + title + "\"" +
+                        ",\"description\":" + "\"" + description + "\"" + ",\"startTime\":" + "\"" + startTime +
+                        "\"" + ",\"endTime\":" + "\"" + endTime + "\"" + "}],\"missingIds\":[\"" + missingId + "\"]}";
+
+        // Assert
+        assertEquals(expectedJsonResponse, jsonResponseProgramsRetrieved);
+    }
+
     @Test
     public void deleteProgramByIdSuccessfully() throws Exception {
         // Arrange
@@ -747,6 +1372,53 @@ public class ProgramControllerTests extends AbstractTest {
         assertEquals(expectedJsonResponse, jsonResponseProgramRetrieved);
     }
 
+    @Test
+    public void deleteProgramsByChannelIdAndTimeWindowAndEndingBeforeSuccessfully() throws Exception {
+        // Arrange
+        String uriProgramsCreate = "/epg/api/programs/create";
+        String uriPrograms = "/epg/api/programs";
+
+        String imageUrl = "http://cycloid.com/channel1-image/";
+        String title = "Best EPL Goals";
+        String description = "Review the amazing goals scored in the last English Premier League season!";
+        LocalDateTime startTime = LocalDateTime.of(2020, Month.JULY, 18, 10, 0, 0);
+
+        for (String channelId : Arrays.asList(channelIdRetrievedChannelOne, channelIdRetrievedChannelTwo)) {
+            for (int hour = 0; hour < 3; hour++) {
+                Program program =
+                        Program.Builder.programWith().withChannelId(channelId).withImageUrl(imageUrl)
+                                       .withTitle(title).withDescription(description)
+                                       .withStartTime(startTime.plusHours(hour))
+                                       .withEndTime(startTime.plusHours(hour).plusMinutes(50)).build();
+
+                mvc.perform(post(uriProgramsCreate).contentType(MediaType.APPLICATION_JSON_VALUE)
+                                                   .content(super.mapToJson(program))
+                                                   .accept(MediaType.APPLICATION_JSON))
+                   .andExpect(status().isCreated());
+            }
+        }
+
+        // Act
+        MvcResult mvcResultChannelDelete = mvc.perform(
+                delete(uriPrograms + "/channelId/" + channelIdRetrievedChannelOne)
+                        .param("from", "2020-07-18T10:00:00").param("to", "2020-07-18T12:00:00")
+                        .accept(MediaType.APPLICATION_JSON)).andExpect(status().isOk()).andReturn();
+
+        MvcResult mvcResultCutoffDelete = mvc.perform(
+                delete(uriPrograms).param("before", "2020-07-18T12:00:00").accept(MediaType.APPLICATION_JSON))
+                                             .andExpect(status().isOk()).andReturn();
+
+        MvcResult mvcResultRemaining = mvc.perform(
+                get(uriPrograms + "/channelId/" + channelIdRetrievedChannelTwo).accept(MediaType.APPLICATION_JSON))
+                                          .andExpect(status().isOk()).andReturn();
+
+        // Assert
+        assertEquals("{\"deleted\":2}", mvcResultChannelDelete.getResponse().getContentAsString());
+        assertEquals("{\"deleted\":2}", mvcResultCutoffDelete.getResponse().getContentAsString());
+        assertEquals(Integer.valueOf(1), JsonPath.parse(mvcResultRemaining.getResponse().getContentAsString())
+                                                 .read("$.length()", Integer.class));
+    }
+
     @Test
     public void deleteProgramByIdNonExistingProgramFails() throws Exception {
         // Arrange
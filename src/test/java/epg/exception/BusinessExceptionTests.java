@@ -0,0 +1,31 @@
+package epg.exception;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class BusinessExceptionTests {
+
+    @Test
+    public void businessExceptionHasNoStackTrace() {
+        // Act
+        BusinessException businessException =
+                new BusinessException("Program needs to have a channel id!", "Channel id: null");
+
+        // Assert
+        assertEquals("Program needs to have a channel id!", businessException.getMessage());
+        assertArrayEquals(new String[]{"Channel id: null"}, businessException.getArguments());
+        assertEquals(0, businessException.getStackTrace().length);
+    }
+
+    @Test
+    public void businessExceptionWithCauseKeepsStackTrace() {
+        // Act
+        BusinessException businessException =
+                new BusinessException("Program could not be read!", new IllegalStateException());
+
+        // Assert
+        assertNotNull(businessException.getCause());
+        assertTrue(businessException.getStackTrace().length > 0);
+    }
+}
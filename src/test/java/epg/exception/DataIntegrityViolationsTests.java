@@ -0,0 +1,41 @@
+package epg.exception;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+
+import static org.junit.Assert.*;
+
+public class DataIntegrityViolationsTests {
+
+    @Test
+    public void constraintNameReturnsNameExtractedByHibernate() {
+        // Arrange
+        DataIntegrityViolationException exception = new DataIntegrityViolationException(
+                "could not execute statement",
+                new ConstraintViolationException("could not execute statement", new SQLException(),
+                                                 "ux_channels_name"));
+
+        // Act
+        String constraintName = DataIntegrityViolations.constraintName(exception);
+
+        // Assert
+        assertEquals("UX_CHANNELS_NAME", constraintName);
+    }
+
+    @Test
+    public void constraintNameWithoutExtractedNameFallsBackToDatabaseMessage() {
+        // Arrange
+        DataIntegrityViolationException exception = new DataIntegrityViolationException(
+                "could not execute statement",
+                new SQLException("Referential integrity constraint violation: \"fk_programs_channel_id\""));
+
+        // Act
+        String constraintName = DataIntegrityViolations.constraintName(exception);
+
+        // Assert
+        assertTrue(constraintName.contains("FK_PROGRAMS_CHANNEL_ID"));
+    }
+}
@@ -0,0 +1,19 @@
+package epg.exception;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ResourceNotFoundExceptionTests {
+
+    @Test
+    public void resourceNotFoundExceptionHasNoStackTrace() {
+        // Act
+        ResourceNotFoundException resourceNotFoundException =
+                new ResourceNotFoundException("Program with id 1 not found!", "Id: 1");
+
+        // Assert
+        assertEquals("Program with id 1 not found!", resourceNotFoundException.getMessageKey());
+        assertEquals(0, resourceNotFoundException.getStackTrace().length);
+    }
+}
@@ -0,0 +1,301 @@
+package epg.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import epg.Application;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class GuideLoadGenerator {
+
+    private static final String DEFAULT_MIX =
+            "listChannels:20,getPrograms:35,getProgram:25,create:10,update:5,delete:5";
+    private static final LocalDateTime SEED_START_TIME = LocalDateTime.of(2020, Month.JULY, 18, 0, 0, 0);
+    private static final LocalDateTime CREATE_START_TIME = LocalDateTime.of(2030, Month.JANUARY, 1, 0, 0, 0);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final int channels;
+    private final List<String> channelIds = new ArrayList<>();
+    private final List<String> seededProgramIds = new ArrayList<>();
+    private final Queue<String> createdProgramIds = new ConcurrentLinkedQueue<>();
+    private final AtomicLong createdSlots = new AtomicLong();
+    private final Map<String, LatencyRecorder> recordersByOperation = new LinkedHashMap<>();
+
+    public GuideLoadGenerator(String baseUrl, int channels) {
+        this.baseUrl = baseUrl;
+        this.channels = channels;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int rps = Integer.getInteger("loadtest.rps", 200);
+        int durationSeconds = Integer.getInteger("loadtest.duration", 60);
+        int warmupSeconds = Integer.getInteger("loadtest.warmup", 10);
+        int threads = Integer.getInteger("loadtest.threads", 64);
+        int channels = Integer.getInteger("loadtest.channels", 50);
+        int programsPerChannel = Integer.getInteger("loadtest.programsPerChannel", 48);
+        Map<String, Integer> mix = parseMix(System.getProperty("loadtest.mix", DEFAULT_MIX));
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class)
+                .logStartupInfo(false)
+                .properties("server.port=0", "spring.main.banner-mode=off", "logging.level.root=WARN")
+                .run();
+
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            GuideLoadGenerator generator = new GuideLoadGenerator("http://localhost:" + port + "/epg/api", channels);
+
+            generator.seed(programsPerChannel);
+            generator.run(mix, rps, warmupSeconds, threads);
+            generator.recordersByOperation.clear();
+            generator.run(mix, rps, durationSeconds, threads);
+            generator.report(rps, durationSeconds);
+        } finally {
+            context.close();
+        }
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weightsByOperation = new LinkedHashMap<>();
+
+        for (String entry : mix.split(",")) {
+            String[] operationAndWeight = entry.trim().split(":");
+
+            weightsByOperation.put(operationAndWeight[0], Integer.parseInt(operationAndWeight[1]));
+        }
+
+        return weightsByOperation;
+    }
+
+    private void seed(int programsPerChannel) throws IOException {
+        for (int channel = 1; channel <= channels; channel++) {
+            Map<String, Object> body = new LinkedHashMap<>();
+
+            body.put("name", "Load Channel " + channel);
+            body.put("position", channel);
+            body.put("category", "Sports");
+
+            channelIds.add(objectMapper.readTree(send("POST", "/channels/create", body).body).get("id").asText());
+        }
+
+        for (String channelId : channelIds) {
+            for (int hour = 0; hour < programsPerChannel; hour++) {
+                JsonNode program = objectMapper.readTree(
+                        send("POST", "/programs/create", program(channelId, SEED_START_TIME.plusHours(hour))).body);
+
+                seededProgramIds.add(program.get("id").asText());
+            }
+        }
+    }
+
+    private void run(Map<String, Integer> mix, int rps, int durationSeconds, int threads) throws InterruptedException {
+        String[] operations = weightedOperations(mix);
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rps;
+        long requests = (long) rps * durationSeconds;
+        long startNanos = System.nanoTime();
+
+        for (long i = 0; i < requests; i++) {
+            long intendedStartNanos = startNanos + i * intervalNanos;
+            long waitNanos = intendedStartNanos - System.nanoTime();
+
+            if (waitNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+
+            String operation = operations[ThreadLocalRandom.current().nextInt(operations.length)];
+
+            executorService.execute(() -> execute(operation, intendedStartNanos));
+        }
+
+        executorService.shutdown();
+
+        // Requests still running would record into the next phase, so the run fails instead of carrying on.
+        if (!executorService.awaitTermination(1, TimeUnit.MINUTES)) {
+            executorService.shutdownNow();
+
+            throw new IllegalStateException("The load test requests did not finish within a minute of the run!");
+        }
+    }
+
+    private String[] weightedOperations(Map<String, Integer> mix) {
+        List<String> operations = new ArrayList<>();
+
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                operations.add(operation);
+            }
+        });
+
+        return operations.toArray(new String[0]);
+    }
+
+    private void execute(String operation, long intendedStartNanos) {
+        String createdProgramId = "delete".equals(operation) ? createdProgramIds.poll() : null;
+        // With nothing created yet to delete, a create is sent instead and recorded as one.
+        String performedOperation = "delete".equals(operation) && createdProgramId == null ? "create" : operation;
+        boolean error;
+
+        try {
+            error = !perform(performedOperation, createdProgramId).isSuccessful();
+        } catch (IOException e) {
+            error = true;
+        }
+
+        recorder(performedOperation).record(System.nanoTime() - intendedStartNanos, error);
+    }
+
+    private Response perform(String operation, String createdProgramId) throws IOException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String channelId = channelIds.get(random.nextInt(channelIds.size()));
+        String seededProgramId = seededProgramIds.get(random.nextInt(seededProgramIds.size()));
+
+        switch (operation) {
+            case "listChannels":
+                return send("GET", "/channels", null);
+            case "getPrograms":
+                LocalDateTime from = SEED_START_TIME.plusHours(random.nextInt(24));
+
+                return send("GET", "/programs/channelId/" + channelId + "?from=" + from + "&to=" + from.plusHours(3),
+                            null);
+            case "getProgram":
+                return send("GET", "/programs/programId/" + seededProgramId, null);
+            case "create":
+                return create();
+            case "update":
+                Map<String, Object> body = new LinkedHashMap<>();
+
+                body.put("title", "Updated program " + random.nextInt());
+
+                return send("PUT", "/programs/programId/" + seededProgramId, body);
+            case "delete":
+                return send("DELETE", "/programs/programId/" + createdProgramId, null);
+            default:
+                throw new IllegalArgumentException("Unknown load test operation: " + operation);
+        }
+    }
+
+    private Response create() throws IOException {
+        long slot = createdSlots.getAndIncrement();
+        String channelId = channelIds.get((int) (slot % channels));
+        Response response = send("POST", "/programs/create",
+                                 program(channelId, CREATE_START_TIME.plusHours(slot / channels)));
+
+        if (response.isSuccessful()) {
+            createdProgramIds.add(objectMapper.readTree(response.body).get("id").asText());
+        }
+
+        return response;
+    }
+
+    private Map<String, Object> program(String channelId, LocalDateTime startTime) {
+        Map<String, Object> program = new LinkedHashMap<>();
+
+        program.put("channelId", channelId);
+        program.put("imageUrl", "http://cycloid.com/channel-image/");
+        program.put("title", "Load program");
+        program.put("description", "Program created by the load generator");
+        program.put("startTime", startTime.toString());
+        program.put("endTime", startTime.plusMinutes(50).toString());
+
+        return program;
+    }
+
+    private synchronized LatencyRecorder recorder(String operation) {
+        return recordersByOperation.computeIfAbsent(operation, key -> new LatencyRecorder());
+    }
+
+    private Response send(String method, String path, Object body) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + path).openConnection();
+
+        connection.setRequestMethod(method);
+        connection.setRequestProperty("Accept", "application/json");
+
+        if (body != null) {
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type", "application/json");
+
+            try (OutputStream outputStream = connection.getOutputStream()) {
+                objectMapper.writeValue(outputStream, body);
+            }
+        }
+
+        int status = connection.getResponseCode();
+
+        try (InputStream inputStream = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+            return new Response(status, inputStream == null ? "" : read(inputStream));
+        }
+    }
+
+    private String read(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+
+        while ((read = inputStream.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, read);
+        }
+
+        return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private void report(int rps, int durationSeconds) {
+        int total = 0;
+        int errors = 0;
+
+        System.out.printf("%-14s %9s %9s %9s %10s %10s %10s%n", "operation", "requests", "errors", "error %",
+                          "p50 ms", "p99 ms", "p999 ms");
+
+        for (Map.Entry<String, LatencyRecorder> entry : recordersByOperation.entrySet()) {
+            LatencyRecorder recorder = entry.getValue();
+
+            total += recorder.getCount();
+            errors += recorder.getErrors();
+
+            System.out.printf("%-14s %9d %9d %9.2f %10.2f %10.2f %10.2f%n", entry.getKey(), recorder.getCount(),
+                              recorder.getErrors(), 100.0 * recorder.getErrors() / recorder.getCount(),
+                              recorder.getPercentileMillis(50), recorder.getPercentileMillis(99),
+                              recorder.getPercentileMillis(99.9));
+        }
+
+        System.out.printf("target=%d rps achieved=%.1f rps requests=%d errors=%d%n", rps,
+                          (double) total / durationSeconds, total, errors);
+    }
+
+    private static class Response {
+
+        private final int status;
+        private final String body;
+
+        private Response(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        private boolean isSuccessful() {
+            return status < 400;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package epg.loadtest;
+
+import java.util.Arrays;
+
+public class LatencyRecorder {
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private int errors;
+
+    public synchronized void record(long latencyNanos, boolean error) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+
+        latencies[count++] = latencyNanos;
+
+        if (error) {
+            errors++;
+        }
+    }
+
+    public synchronized int getCount() {
+        return count;
+    }
+
+    public synchronized int getErrors() {
+        return errors;
+    }
+
+    public synchronized double getPercentileMillis(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+
+        long[] sortedLatencies = Arrays.copyOf(latencies, count);
+
+        Arrays.sort(sortedLatencies);
+
+        int index = (int) Math.ceil(percentile / 100 * count) - 1;
+
+        return sortedLatencies[Math.max(0, Math.min(index, count - 1))] / 1_000_000.0;
+    }
+}
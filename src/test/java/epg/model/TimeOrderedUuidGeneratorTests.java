@@ -0,0 +1,43 @@
+package epg.model;
+
+import org.junit.Test;
+
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+
+public class TimeOrderedUuidGeneratorTests {
+
+    @Test
+    public void generateReturnsVersionSevenUuid() {
+        // Arrange
+        TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator();
+        long before = System.currentTimeMillis();
+
+        // Act
+        String id = (String) generator.generate(null, null);
+
+        // Assert
+        UUID uuid = UUID.fromString(id);
+        long timestamp = uuid.getMostSignificantBits() >>> 16;
+
+        assertEquals(id, uuid.toString());
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertTrue(timestamp >= before && timestamp <= System.currentTimeMillis());
+    }
+
+    @Test
+    public void generateOrdersIdsByCreationTime() throws InterruptedException {
+        // Arrange
+        TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator();
+
+        // Act
+        String firstId = (String) generator.generate(null, null);
+        Thread.sleep(2);
+        String secondId = (String) generator.generate(null, null);
+
+        // Assert
+        assertTrue(firstId.compareTo(secondId) < 0);
+    }
+}
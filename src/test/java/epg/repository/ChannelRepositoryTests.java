@@ -8,6 +8,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit4.SpringRunner;
 
+import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.Assert.*;
@@ -74,6 +75,26 @@ public class ChannelRepositoryTests {
         assertTrue(allChannelsList.stream().anyMatch(channelTwo::equals));
     }
 
+    @Test
+    public void getAllChannelsReturnsDetachedChannels() {
+        // Arrange
+        Channel channel =
+                Channel.Builder.channelWith().withName("Channel 1").withPosition(1).withCategory("Sports").build();
+
+        channelRepository.save(channel);
+
+        // Act
+        List<Channel> allChannelsList = channelRepository.getAllChannels();
+
+        // Assert
+        assertEquals(1, allChannelsList.size());
+        assertEquals(channel.getId(), allChannelsList.get(0).getId());
+        assertEquals("Channel 1", allChannelsList.get(0).getName());
+        assertEquals(Integer.valueOf(1), allChannelsList.get(0).getPosition());
+        assertEquals("Sports", allChannelsList.get(0).getCategory());
+        assertNotSame(channel, allChannelsList.get(0));
+    }
+
     @Test
     public void findAllChannelsReturnsEmptyList() {
         // Act
@@ -84,6 +105,26 @@ public class ChannelRepositoryTests {
         assertEquals(0, allChannelsList.size());
     }
 
+    @Test
+    public void getAllChannelIdsOrderedByPositionSuccessfully() {
+        // Arrange
+        Channel channelTwo =
+                Channel.Builder.channelWith().withName("Channel 2").withPosition(2).withCategory("Sports").build();
+
+        channelRepository.save(channelTwo);
+
+        Channel channelOne =
+                Channel.Builder.channelWith().withName("Channel 1").withPosition(1).withCategory("Sports").build();
+
+        channelRepository.save(channelOne);
+
+        // Act
+        List<String> channelIds = channelRepository.getAllChannelIdsOrderedByPosition();
+
+        // Assert
+        assertEquals(Arrays.asList(channelOne.getId(), channelTwo.getId()), channelIds);
+    }
+
     @Test
     public void getChannelByNameSuccessfully() {
         // Arrange
@@ -1,16 +1,28 @@
 package epg.repository;
 
+import epg.model.Channel;
 import epg.model.Program;
+import epg.model.ScheduleSlot;
+import org.hibernate.Hibernate;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit4.SpringRunner;
 
 import java.time.LocalDateTime;
 import java.time.Month;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.Assert.*;
 
@@ -22,10 +34,27 @@ public class ProgramRepositoryTests {
     @Autowired
     private ProgramRepository programRepository;
 
+    @Autowired
+    private ChannelRepository channelRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private String firstChannelId;
+    private String secondChannelId;
+    private String thirdChannelId;
+
+    @Before
+    public void setUp() {
+        firstChannelId = saveChannel("Sport TV 1", 101);
+        secondChannelId = saveChannel("Sport TV 2", 102);
+        thirdChannelId = saveChannel("Sport TV 3", 103);
+    }
+
     @Test
     public void saveProgramSuccessfully() {
         // Arrange
-        String channelId = "0d8d1a97-bec1-4d23-91b6-e164f6c635c6";
+        String channelId = firstChannelId;
         String imageUrl = "http://cycloid.com/channel1-image/";
         String title = "Best EPL Goals";
         String description = "Review the amazing goals scored in the last English Premier League season!";
@@ -53,7 +82,7 @@ public class ProgramRepositoryTests {
     @Test
     public void deleteProgramByIdSuccessfully() {
         // Arrange
-        String channelId = "0d8d1a97-bec1-4d23-91b6-e164f6c635c6";
+        String channelId = firstChannelId;
         String imageUrl = "http://cycloid.com/channel1-image/";
         String title = "Best EPL Goals";
         String description = "Review the amazing goals scored in the last English Premier League season!";
@@ -77,55 +106,10 @@ public class ProgramRepositoryTests {
         assertNull(programRetrieved);
     }
 
-    @Test
-    public void getProgramByChannelIdAndTimeSuccessfully() {
-        // Arrange
-        String channelId = "0d8d1a97-bec1-4d23-91b6-e164f6c635c6";
-        String imageUrl = "http://cycloid.com/channel1-image/";
-        String title = "Best EPL Goals";
-        String description = "Review the amazing goals scored in the last English Premier League season!";
-        LocalDateTime startTime = LocalDateTime.of(2020, Month.JULY, 18, 11, 45, 47);
-        LocalDateTime endTime = LocalDateTime.of(2020, Month.JULY, 18, 12, 45, 47);
-
-        Program programToBeCreated =
-                Program.Builder.programWith().withChannelId(channelId).withImageUrl(imageUrl).withTitle(title)
-                               .withDescription(description).withStartTime(startTime).withEndTime(endTime).build();
-
-        programRepository.save(programToBeCreated);
-
-        // Act
-        Program programRetrieved = programRepository.getProgramByChannelIdAndTime(channelId, startTime, endTime);
-
-        // Assert
-        assertNotNull(programRetrieved);
-        assertFalse(programRetrieved.getChannelId().isEmpty());
-        assertEquals(channelId, programRetrieved.getChannelId());
-        assertEquals(imageUrl, programRetrieved.getImageUrl());
-        assertEquals(title, programRetrieved.getTitle());
-        assertEquals(description, programRetrieved.getDescription());
-        assertEquals(startTime, programRetrieved.getStartTime());
-        assertEquals(endTime, programRetrieved.getEndTime());
-    }
-
-    @Test
-    public void getProgramByChannelIdAndTimeFails() {
-        // Arrange
-        String channelId = "0d8d1a97-bec1-4d23-91b6-e164f6c635c6";
-
-        LocalDateTime startTime = LocalDateTime.of(2020, Month.JULY, 18, 11, 45, 47);
-        LocalDateTime endTime = LocalDateTime.of(2020, Month.JULY, 18, 12, 45, 47);
-
-        // Act
-        Program programRetrieved = programRepository.getProgramByChannelIdAndTime(channelId, startTime, endTime);
-
-        // Assert
-        assertNull(programRetrieved);
-    }
-
     @Test
     public void getAllProgramsByChannelIdSuccessfully() {
         // Arrange
-        String channelIdChannelOne = "0d8d1a97-bec1-4d23-91b6-e164f6c635c6";
+        String channelIdChannelOne = firstChannelId;
         String imageUrlProgramOneChannelOne = "http://cycloid.com/channel1-image/";
         String titleProgramOneChannelOne = "Best EPL Goals";
         String descriptionProgramOneChannelOne =
@@ -165,14 +149,17 @@ public class ProgramRepositoryTests {
         // Assert
         assertNotNull(allProgramsList);
         assertEquals(2, allProgramsList.size());
-        assertTrue(allProgramsList.stream().anyMatch(programOneToBeCreatedChannelOne::equals));
-        assertTrue(allProgramsList.stream().anyMatch(programTwoToBeCreatedChannelOne::equals));
+        List<String> allProgramIds = allProgramsList.stream().map(Program::getId).collect(Collectors.toList());
+
+        assertTrue(allProgramIds.contains(programOneToBeCreatedChannelOne.getId()));
+        assertTrue(allProgramIds.contains(programTwoToBeCreatedChannelOne.getId()));
+        assertTrue(allProgramsList.stream().noneMatch(testEntityManager.getEntityManager()::contains));
     }
 
     @Test
     public void getAllProgramsByChannelIdFails() {
         // Arrange
-        String channelIdChannelOne = "0d8d1a97-bec1-4d23-91b6-e164f6c635c6";
+        String channelIdChannelOne = firstChannelId;
 
         // Act
         List<Program> allProgramsList = programRepository.getAllProgramsByChannelId(channelIdChannelOne);
@@ -182,10 +169,256 @@ public class ProgramRepositoryTests {
         assertEquals(0, allProgramsList.size());
     }
 
+    @Test
+    public void streamAllProgramsByChannelIdSuccessfully() {
+        // Arrange
+        String channelId = firstChannelId;
+        String imageUrl = "http://cycloid.com/channel1-image/";
+        String title = "Best EPL Goals";
+        String description = "Review the amazing goals scored in the last English Premier League season!";
+        LocalDateTime startTime = LocalDateTime.of(2020, Month.JULY, 18, 10, 0, 0);
+
+        for (int hour = 3; hour >= 0; hour--) {
+            programRepository.save(
+                    Program.Builder.programWith().withChannelId(channelId).withImageUrl(imageUrl).withTitle(title)
+                                   .withDescription(description).withStartTime(startTime.plusHours(hour))
+                                   .withEndTime(startTime.plusHours(hour + 1)).build());
+        }
+
+        // Act
+        List<LocalDateTime> startTimesList;
+
+        try (Stream<Program> programs = programRepository.streamAllProgramsByChannelId(channelId)) {
+            startTimesList = programs.map(Program::getStartTime).collect(Collectors.toList());
+        }
+
+        // Assert
+        assertEquals(Arrays.asList(startTime, startTime.plusHours(1), startTime.plusHours(2), startTime.plusHours(3)),
+                     startTimesList);
+    }
+
+    @Test
+    public void getProgramsByChannelIdAndTimeWindowSuccessfully() {
+        // Arrange
+        String channelId = firstChannelId;
+        String imageUrl = "http://cycloid.com/channel1-image/";
+        String title = "Best EPL Goals";
+        String description = "Review the amazing goals scored in the last English Premier League season!";
+        LocalDateTime startTime = LocalDateTime.of(2020, Month.JULY, 18, 10, 0, 0);
+
+        for (int hour = 0; hour < 6; hour++) {
+            programRepository.save(
+                    Program.Builder.programWith().withChannelId(channelId).withImageUrl(imageUrl).withTitle(title)
+                                   .withDescription(description).withStartTime(startTime.plusHours(hour))
+                                   .withEndTime(startTime.plusHours(hour + 1)).build());
+        }
+
+        LocalDateTime from = LocalDateTime.of(2020, Month.JULY, 18, 11, 30, 0);
+        LocalDateTime to = LocalDateTime.of(2020, Month.JULY, 18, 15, 0, 0);
+
+        LocalDateTime earliestStartTime = startTime.plusHours(1);
+
+        // Act
+        List<Program> firstPageList = programRepository
+                .getProgramsByChannelIdAndTimeWindow(channelId, earliestStartTime, from, to, PageRequest.of(0, 2));
+
+        Program lastProgramFirstPage = firstPageList.get(firstPageList.size() - 1);
+
+        List<Program> secondPageList = programRepository
+                .getProgramsByChannelIdAndTimeWindowAfter(channelId, lastProgramFirstPage.getStartTime(), from, to,
+                                                          lastProgramFirstPage.getStartTime(),
+                                                          lastProgramFirstPage.getId(), PageRequest.of(0, 2));
+
+        // Assert
+        assertEquals(2, firstPageList.size());
+        assertEquals(startTime.plusHours(1), firstPageList.get(0).getStartTime());
+        assertEquals(startTime.plusHours(2), firstPageList.get(1).getStartTime());
+        assertEquals(2, secondPageList.size());
+        assertEquals(startTime.plusHours(3), secondPageList.get(0).getStartTime());
+        assertEquals(startTime.plusHours(4), secondPageList.get(1).getStartTime());
+    }
+
+    @Test
+    public void getProgramsByChannelIdsAndTimeWindowSuccessfully() {
+        // Arrange
+        String channelIdChannelOne = firstChannelId;
+        String channelIdChannelTwo = secondChannelId;
+        String channelIdChannelThree = thirdChannelId;
+        String imageUrl = "http://cycloid.com/channel1-image/";
+        String title = "Best EPL Goals";
+        String description = "Review the amazing goals scored in the last English Premier League season!";
+        LocalDateTime startTime = LocalDateTime.of(2020, Month.JULY, 18, 10, 0, 0);
+
+        for (String channelId : Arrays.asList(channelIdChannelOne, channelIdChannelTwo, channelIdChannelThree)) {
+            for (int hour = 0; hour < 4; hour++) {
+                programRepository.save(
+                        Program.Builder.programWith().withChannelId(channelId).withImageUrl(imageUrl)
+                                       .withTitle(title).withDescription(description)
+                                       .withStartTime(startTime.plusHours(hour))
+                                       .withEndTime(startTime.plusHours(hour + 1)).build());
+            }
+        }
+
+        // Act
+        List<Program> programsList = programRepository
+                .getProgramsByChannelIdsAndTimeWindow(Arrays.asList(channelIdChannelOne, channelIdChannelTwo),
+                                                      startTime.plusHours(1), startTime.plusHours(1),
+                                                      startTime.plusHours(3));
+
+        // Assert
+        List<String> orderedChannelIds =
+                Stream.of(channelIdChannelOne, channelIdChannelTwo).sorted().collect(Collectors.toList());
+
+        assertNotNull(programsList);
+        assertEquals(4, programsList.size());
+        assertEquals(orderedChannelIds.get(0), programsList.get(0).getChannelId());
+        assertEquals(startTime.plusHours(1), programsList.get(0).getStartTime());
+        assertEquals(startTime.plusHours(2), programsList.get(1).getStartTime());
+        assertEquals(orderedChannelIds.get(1), programsList.get(2).getChannelId());
+    }
+
+    @Test
+    public void getProgramsByChannelPositionRangeAndTimeWindowSuccessfully() {
+        // Arrange
+        String imageUrl = "http://cycloid.com/channel1-image/";
+        String title = "Best EPL Goals";
+        String description = "Review the amazing goals scored in the last English Premier League season!";
+        LocalDateTime startTime = LocalDateTime.of(2020, Month.JULY, 18, 10, 0, 0);
+
+        for (int position = 3; position > 0; position--) {
+            Channel channel = channelRepository.save(
+                    Channel.Builder.channelWith().withName("Channel " + position).withPosition(position)
+                                   .withCategory("Sports").build());
+
+            programRepository.save(
+                    Program.Builder.programWith().withChannelId(channel.getId()).withImageUrl(imageUrl)
+                                   .withTitle(title).withDescription(description).withStartTime(startTime)
+                                   .withEndTime(startTime.plusHours(1)).build());
+        }
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // Act
+        List<Program> programsList = programRepository
+                .getProgramsByChannelPositionRangeAndTimeWindow(2, 3, startTime, startTime, startTime.plusHours(1));
+
+        // Assert
+        assertNotNull(programsList);
+        assertEquals(2, programsList.size());
+        assertEquals(channelRepository.getChannelByPosition(2).getId(), programsList.get(0).getChannelId());
+        assertEquals(channelRepository.getChannelByPosition(3).getId(), programsList.get(1).getChannelId());
+        assertTrue(Hibernate.isInitialized(programsList.get(0).getChannel()));
+        assertEquals(Integer.valueOf(2), programsList.get(0).getChannel().getPosition());
+    }
+
+    @Test
+    public void getProgramSummariesByChannelPositionRangeAndTimeWindowSuccessfully() {
+        // Arrange
+        LocalDateTime startTime = LocalDateTime.of(2020, Month.JULY, 18, 10, 0, 0);
+
+        for (int position = 3; position > 0; position--) {
+            Channel channel = channelRepository.save(
+                    Channel.Builder.channelWith().withName("Channel " + position).withPosition(position)
+                                   .withCategory("Sports").build());
+
+            programRepository.save(
+                    Program.Builder.programWith().withChannelId(channel.getId())
+                                   .withImageUrl("http://cycloid.com/channel1-image/").withTitle("Best EPL Goals")
+                                   .withDescription("Review the amazing goals!").withStartTime(startTime)
+                                   .withEndTime(startTime.plusHours(1)).build());
+        }
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // Act
+        List<Program> summariesList = programRepository
+                .getProgramSummariesByChannelPositionRangeAndTimeWindow(2, 3, startTime, startTime,
+                                                                        startTime.plusHours(1));
+
+        // Assert
+        assertEquals(2, summariesList.size());
+        assertEquals(channelRepository.getChannelByPosition(2).getId(), summariesList.get(0).getChannelId());
+        assertEquals(channelRepository.getChannelByPosition(3).getId(), summariesList.get(1).getChannelId());
+        assertEquals("Best EPL Goals", summariesList.get(0).getTitle());
+        assertNull(summariesList.get(0).getImageUrl());
+        assertNull(summariesList.get(0).getDescription());
+        assertNull(summariesList.get(0).getChannel());
+    }
+
+    @Test
+    public void getScheduleSlotsByChannelIdSuccessfully() {
+        // Arrange
+        String channelIdChannelOne = firstChannelId;
+        String channelIdChannelTwo = secondChannelId;
+        String imageUrl = "http://cycloid.com/channel1-image/";
+        String title = "Best EPL Goals";
+        String description = "Review the amazing goals scored in the last English Premier League season!";
+        LocalDateTime startTime = LocalDateTime.of(2020, Month.JULY, 18, 11, 45, 47);
+        LocalDateTime endTime = LocalDateTime.of(2020, Month.JULY, 18, 12, 45, 47);
+
+        Program programToBeCreatedChannelOne =
+                Program.Builder.programWith().withChannelId(channelIdChannelOne).withImageUrl(imageUrl)
+                               .withTitle(title).withDescription(description).withStartTime(startTime)
+                               .withEndTime(endTime).build();
+
+        Program programToBeCreatedChannelTwo =
+                Program.Builder.programWith().withChannelId(channelIdChannelTwo).withImageUrl(imageUrl)
+                               .withTitle(title).withDescription(description).withStartTime(startTime)
+                               .withEndTime(endTime).build();
+
+        Program programCreatedChannelOne = programRepository.save(programToBeCreatedChannelOne);
+        programRepository.save(programToBeCreatedChannelTwo);
+
+        // Act
+        List<ScheduleSlot> scheduleSlotsList = programRepository.getScheduleSlotsByChannelId(channelIdChannelOne);
+
+        // Assert
+        assertNotNull(scheduleSlotsList);
+        assertEquals(1, scheduleSlotsList.size());
+        assertEquals(programCreatedChannelOne.getId(), scheduleSlotsList.get(0).getId());
+        assertEquals(channelIdChannelOne, scheduleSlotsList.get(0).getChannelId());
+        assertEquals(startTime, scheduleSlotsList.get(0).getStartTime());
+        assertEquals(endTime, scheduleSlotsList.get(0).getEndTime());
+    }
+
+    @Test
+    public void getScheduleSlotsByChannelIdsAndTimeSuccessfully() {
+        // Arrange
+        String channelIdChannelOne = firstChannelId;
+        String channelIdChannelTwo = secondChannelId;
+        String channelIdChannelThree = thirdChannelId;
+        String imageUrl = "http://cycloid.com/channel1-image/";
+        String title = "Best EPL Goals";
+        String description = "Review the amazing goals scored in the last English Premier League season!";
+        LocalDateTime startTime = LocalDateTime.of(2020, Month.JULY, 18, 10, 0, 0);
+
+        for (String channelId : Arrays.asList(channelIdChannelOne, channelIdChannelTwo, channelIdChannelThree)) {
+            for (int hour = 0; hour < 4; hour++) {
+                programRepository.save(
+                        Program.Builder.programWith().withChannelId(channelId).withImageUrl(imageUrl)
+                                       .withTitle(title).withDescription(description)
+                                       .withStartTime(startTime.plusHours(hour))
+                                       .withEndTime(startTime.plusHours(hour).plusMinutes(50)).build());
+            }
+        }
+
+        // Act
+        List<ScheduleSlot> scheduleSlotsList = programRepository
+                .getScheduleSlotsByChannelIdsAndTime(Arrays.asList(channelIdChannelOne, channelIdChannelTwo),
+                                                     startTime, startTime.plusHours(1), startTime.plusHours(2));
+
+        // Assert
+        assertNotNull(scheduleSlotsList);
+        assertEquals(4, scheduleSlotsList.size());
+        assertTrue(scheduleSlotsList.stream().noneMatch(slot -> slot.getChannelId().equals(channelIdChannelThree)));
+    }
+
     @Test
     public void findByIdSuccessfully() {
         // Arrange
-        String channelId = "0d8d1a97-bec1-4d23-91b6-e164f6c635c6";
+        String channelId = firstChannelId;
         String imageUrl = "http://cycloid.com/channel1-image/";
         String title = "Best EPL Goals";
         String description = "Review the amazing goals scored in the last English Premier League season!";
@@ -212,10 +445,32 @@ public class ProgramRepositoryTests {
         assertEquals(endTime, programRetrieved.getEndTime());
     }
 
+    @Test
+    public void getProgramsByIdsReturnsDetachedPrograms() {
+        // Arrange
+        LocalDateTime startTime = LocalDateTime.of(2020, Month.JULY, 18, 11, 45, 47);
+
+        Program program = programRepository.save(
+                Program.Builder.programWith().withChannelId(firstChannelId).withImageUrl("http://cycloid.com/")
+                               .withTitle("Best EPL Goals").withDescription("Review the amazing goals!")
+                               .withStartTime(startTime).withEndTime(startTime.plusHours(1)).build());
+
+        // Act
+        List<Program> programsList =
+                programRepository.getProgramsByIds(Arrays.asList(program.getId(), secondChannelId));
+
+        // Assert
+        assertEquals(1, programsList.size());
+        assertEquals(program.getId(), programsList.get(0).getId());
+        assertEquals("Review the amazing goals!", programsList.get(0).getDescription());
+        assertNotSame(program, programsList.get(0));
+        assertFalse(testEntityManager.getEntityManager().contains(programsList.get(0)));
+    }
+
     @Test
     public void findByIdFails() {
         // Arrange
-        String id = "0d8d1a97-bec1-4d23-91b6-e164f6c635c6";
+        String id = firstChannelId;
 
         // Act
         Program programRetrieved = programRepository.findById(id).orElse(null);
@@ -227,7 +482,7 @@ public class ProgramRepositoryTests {
     @Test
     public void updateProgramByIdSuccessfully() {
         // Arrange
-        String channelId = "0d8d1a97-bec1-4d23-91b6-e164f6c635c6";
+        String channelId = firstChannelId;
         String imageUrl = "http://cycloid.com/channel1-image/";
         String title = "Best EPL Goals";
         String description = "Review the amazing goals scored in the last English Premier League season!";
@@ -240,7 +495,7 @@ public class ProgramRepositoryTests {
 
         Program programCreated = programRepository.save(programToBeCreated);
 
-        String channelIdUpdate = "0d8d1a97-bec1-4d23-91b6-e164f6c635c6";
+        String channelIdUpdate = firstChannelId;
         String imageUrlUpdate = "http://cycloid.com/channel2-image/";
         String titleUpdate = "Best Bundesliga Goals";
         String descriptionUpdate = "Review the amazing goals scored in the last Bundesliga season!";
@@ -271,7 +526,7 @@ public class ProgramRepositoryTests {
     @Test
     public void updateProgramByIdUpdateOnlyChannelIdSuccessfully() {
         // Arrange
-        String channelId = "0d8d1a97-bec1-4d23-91b6-e164f6c635c6";
+        String channelId = firstChannelId;
         String imageUrl = "http://cycloid.com/channel1-image/";
         String title = "Best EPL Goals";
         String description = "Review the amazing goals scored in the last English Premier League season!";
@@ -284,7 +539,7 @@ public class ProgramRepositoryTests {
 
         Program programCreated = programRepository.save(programToBeCreated);
 
-        String channelIdUpdate = "0d8d1a97-bec1-4d23-91b6-e164f6c635c6";
+        String channelIdUpdate = firstChannelId;
 
         programCreated.setChannelId(channelIdUpdate);
 
@@ -305,7 +560,7 @@ public class ProgramRepositoryTests {
     @Test
     public void updateProgramByIdUpdateOnlyImageUrlSuccessfully() {
         // Arrange
-        String channelId = "0d8d1a97-bec1-4d23-91b6-e164f6c635c6";
+        String channelId = firstChannelId;
         String imageUrl = "http://cycloid.com/channel1-image/";
         String title = "Best EPL Goals";
         String description = "Review the amazing goals scored in the last English Premier League season!";
@@ -340,7 +595,7 @@ public class ProgramRepositoryTests {
     @Test
     public void updateProgramByIdUpdateOnlyTitleSuccessfully() {
         // Arrange
-        String channelId = "0d8d1a97-bec1-4d23-91b6-e164f6c635c6";
+        String channelId = firstChannelId;
         String imageUrl = "http://cycloid.com/channel1-image/";
         String title = "Best EPL Goals";
         String description = "Review the amazing goals scored in the last English Premier League season!";
@@ -374,7 +629,7 @@ public class ProgramRepositoryTests {
     @Test
     public void updateProgramByIdUpdateOnlyDescriptionSuccessfully() {
         // Arrange
-        String channelId = "0d8d1a97-bec1-4d23-91b6-e164f6c635c6";
+        String channelId = firstChannelId;
         String imageUrl = "http://cycloid.com/channel1-image/";
         String title = "Best EPL Goals";
         String description = "Review the amazing goals scored in the last English Premier League season!";
@@ -408,7 +663,7 @@ public class ProgramRepositoryTests {
     @Test
     public void updateProgramByIdUpdateOnlyStartTimeSuccessfully() {
         // Arrange
-        String channelId = "0d8d1a97-bec1-4d23-91b6-e164f6c635c6";
+        String channelId = firstChannelId;
         String imageUrl = "http://cycloid.com/channel1-image/";
         String title = "Best EPL Goals";
         String description = "Review the amazing goals scored in the last English Premier League season!";
@@ -442,7 +697,7 @@ public class ProgramRepositoryTests {
     @Test
     public void updateProgramByIdUpdateOnlyEndTimeSuccessfully() {
         // Arrange
-        String channelId = "0d8d1a97-bec1-4d23-91b6-e164f6c635c6";
+        String channelId = firstChannelId;
         String imageUrl = "http://cycloid.com/channel1-image/";
         String title = "Best EPL Goals";
         String description = "Review the amazing goals scored in the last English Premier League season!";
@@ -472,4 +727,163 @@ public class ProgramRepositoryTests {
         assertEquals(startTime, programUpdated.getStartTime());
         assertEquals(endTimeUpdate, programUpdated.getEndTime());
     }
+
+    @Test
+    public void deleteProgramsEndingBeforeSuccessfully() {
+        // Arrange
+        String channelId = firstChannelId;
+        String imageUrl = "http://cycloid.com/channel1-image/";
+        String title = "Best EPL Goals";
+        String description = "Review the amazing goals scored in the last English Premier League season!";
+        LocalDateTime startTime = LocalDateTime.of(2020, Month.JULY, 18, 10, 0, 0);
+
+        for (int hour = 0; hour < 3; hour++) {
+            programRepository.save(Program.Builder.programWith().withChannelId(channelId).withImageUrl(imageUrl)
+                                                  .withTitle(title).withDescription(description)
+                                                  .withStartTime(startTime.plusHours(hour))
+                                                  .withEndTime(startTime.plusHours(hour).plusMinutes(50)).build());
+        }
+
+        LocalDateTime before = startTime.plusHours(2);
+
+        // Act
+        List<String> ids = programRepository.getScheduleSlotsEndingBefore(before, PageRequest.of(0, 10)).stream()
+                                            .map(ScheduleSlot::getId).collect(Collectors.toList());
+        List<String> lockedIds =
+                programRepository.getProgramIdsByIdsAndChannelIds(ids, Collections.singleton(channelId));
+        int deleted = programRepository.deleteProgramsByIds(lockedIds);
+
+        // Assert
+        assertEquals(2, deleted);
+        assertEquals(new HashSet<>(ids), new HashSet<>(lockedIds));
+        assertEquals(1, programRepository.count());
+        assertTrue(programRepository.getScheduleSlotsEndingBefore(before, PageRequest.of(0, 10)).isEmpty());
+        assertTrue(programRepository.getProgramIdsByIdsAndChannelIds(ids, Collections.singleton(secondChannelId))
+                                    .isEmpty());
+    }
+
+    @Test
+    public void getEarliestStartTimeOfProgramsAiringAtReturnsEarliestStartOfAiringPrograms() {
+        // Arrange
+        LocalDateTime startTime = LocalDateTime.of(2020, Month.JULY, 18, 10, 0, 0);
+
+        for (int hour = 0; hour < 3; hour++) {
+            programRepository.save(Program.Builder.programWith().withChannelId(firstChannelId)
+                                                  .withImageUrl("http://cycloid.com/").withTitle("Best EPL Goals")
+                                                  .withDescription("Review the amazing goals!")
+                                                  .withStartTime(startTime.plusHours(hour))
+                                                  .withEndTime(startTime.plusHours(hour + 1)).build());
+        }
+
+        programRepository.save(Program.Builder.programWith().withChannelId(secondChannelId)
+                                              .withImageUrl("http://cycloid.com/").withTitle("Best EPL Goals")
+                                              .withDescription("Review the amazing goals!")
+                                              .withStartTime(startTime.plusMinutes(90))
+                                              .withEndTime(startTime.plusMinutes(150)).build());
+
+        List<String> channelIds = Arrays.asList(firstChannelId, secondChannelId);
+
+        // Act
+        LocalDateTime earliestStartTime =
+                programRepository.getEarliestStartTimeOfProgramsAiringAt(channelIds, startTime.plusHours(2));
+        LocalDateTime earliestStartTimeOfSecondChannel = programRepository.getEarliestStartTimeOfProgramsAiringAt(
+                Collections.singletonList(secondChannelId), startTime.plusHours(2));
+        LocalDateTime earliestStartTimeAfterSchedule =
+                programRepository.getEarliestStartTimeOfProgramsAiringAt(channelIds, startTime.plusHours(4));
+
+        // Assert
+        assertEquals(startTime.plusHours(1), earliestStartTime);
+        assertEquals(startTime.plusMinutes(90), earliestStartTimeOfSecondChannel);
+        assertNull(earliestStartTimeAfterSchedule);
+    }
+
+    @Test(expected = DataIntegrityViolationException.class)
+    public void saveProgramWithNonExistingChannelFails() {
+        // Arrange
+        String channelId = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
+        String imageUrl = "http://cycloid.com/channel1-image/";
+        String title = "Best EPL Goals";
+        String description = "Review the amazing goals scored in the last English Premier League season!";
+        LocalDateTime startTime = LocalDateTime.of(2020, Month.JULY, 18, 11, 45, 47);
+        LocalDateTime endTime = LocalDateTime.of(2020, Month.JULY, 18, 12, 45, 47);
+
+        Program programToBeCreated =
+                Program.Builder.programWith().withChannelId(channelId).withImageUrl(imageUrl).withTitle(title)
+                               .withDescription(description).withStartTime(startTime).withEndTime(endTime).build();
+
+        // Act
+        programRepository.saveAndFlush(programToBeCreated);
+    }
+
+    @Test
+    public void getProgramIdsEndingBeforeUsesEndTimeIndex() {
+        // Act
+        String plan = (String) testEntityManager.getEntityManager()
+                                                .createNativeQuery("EXPLAIN SELECT id FROM programs WHERE end_time < " +
+                                                                   "TIMESTAMP '2020-07-18 00:00:00'")
+                                                .getSingleResult();
+
+        // Assert
+        assertTrue(plan, plan.contains("IX_PROGRAMS_END_TIME"));
+    }
+
+    @Test
+    public void getProgramsByChannelIdAndTimeWindowUsesChannelIdStartTimeIndex() {
+        // Arrange
+        LocalDateTime startTime = LocalDateTime.of(2020, Month.JULY, 1, 0, 0, 0);
+
+        for (int hour = 0; hour < 200; hour++) {
+            programRepository.save(
+                    Program.Builder.programWith().withChannelId(firstChannelId).withImageUrl("http://cycloid.com/")
+                                   .withTitle("Best EPL Goals").withDescription("Review the amazing goals!")
+                                   .withStartTime(startTime.plusHours(hour))
+                                   .withEndTime(startTime.plusHours(hour + 1)).build());
+        }
+
+        testEntityManager.flush();
+
+        // Act
+        String plan = (String) testEntityManager.getEntityManager().createNativeQuery(
+                "EXPLAIN SELECT id FROM programs WHERE channel_id = '" + firstChannelId + "' AND " +
+                        "start_time >= TIMESTAMP '2020-07-07 11:00:00' AND " +
+                        "start_time < TIMESTAMP '2020-07-07 18:00:00' AND end_time > TIMESTAMP '2020-07-07 11:30:00'")
+                                                .getSingleResult();
+
+        // Assert
+        assertTrue(plan, plan.contains("IX_PROGRAMS_CHANNEL_ID_START_TIME"));
+    }
+
+    @Test
+    public void getProgramsByChannelIdsAndTimeWindowUsesChannelIdStartTimeIndex() {
+        // Arrange
+        LocalDateTime startTime = LocalDateTime.of(2020, Month.JULY, 1, 0, 0, 0);
+
+        for (String channelId : Arrays.asList(firstChannelId, secondChannelId)) {
+            for (int hour = 0; hour < 200; hour++) {
+                programRepository.save(
+                        Program.Builder.programWith().withChannelId(channelId).withImageUrl("http://cycloid.com/")
+                                       .withTitle("Best EPL Goals").withDescription("Review the amazing goals!")
+                                       .withStartTime(startTime.plusHours(hour))
+                                       .withEndTime(startTime.plusHours(hour + 1)).build());
+            }
+        }
+
+        testEntityManager.flush();
+
+        // Act
+        String plan = (String) testEntityManager.getEntityManager().createNativeQuery(
+                "EXPLAIN SELECT p.id FROM programs p INNER JOIN channels c ON p.channel_id = c.id " +
+                        "WHERE c.id IN ('" + firstChannelId + "', '" + secondChannelId + "') AND " +
+                        "p.start_time >= TIMESTAMP '2020-07-07 11:00:00' AND " +
+                        "p.start_time < TIMESTAMP '2020-07-07 18:00:00' AND " +
+                        "p.end_time > TIMESTAMP '2020-07-07 11:30:00'").getSingleResult();
+
+        // Assert
+        assertTrue(plan, plan.contains("IX_PROGRAMS_CHANNEL_ID_START_TIME"));
+    }
+
+    private String saveChannel(String name, int position) {
+        return channelRepository.save(Channel.Builder.channelWith().withName(name).withPosition(position)
+                                                     .withCategory("Sports").build()).getId();
+    }
 }
@@ -0,0 +1,175 @@
+package epg.service.channel;
+
+import epg.model.Channel;
+import epg.repository.ChannelRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ChannelCacheTests {
+
+    @Mock
+    private ChannelRepository channelRepository;
+
+    private ChannelCache channelCache;
+
+    @Before
+    public void setUp() {
+        channelCache = new ChannelCache(channelRepository, 2, Duration.ofMinutes(10));
+    }
+
+    @Test
+    public void findByIdLoadsChannelOnlyOnce() {
+        // Arrange
+        Channel channel = channel("06d6232c-dca4-493d-86fb-f82f057dc5d5", "Channel 1", 1);
+
+        when(channelRepository.findById(channel.getId())).thenReturn(Optional.of(channel));
+
+        // Act
+        Optional<Channel> firstChannelRetrieved = channelCache.findById(channel.getId());
+        Optional<Channel> secondChannelRetrieved = channelCache.findById(channel.getId());
+
+        // Assert
+        assertTrue(firstChannelRetrieved.isPresent());
+        assertTrue(secondChannelRetrieved.isPresent());
+        verify(channelRepository, times(1)).findById(channel.getId());
+        assertEquals(1, channelCache.getHitCount());
+        assertEquals(1, channelCache.getMissCount());
+    }
+
+    @Test
+    public void bindToRegistersHitAndMissCounters() {
+        // Arrange
+        Channel channel = channel("06d6232c-dca4-493d-86fb-f82f057dc5d5", "Channel 1", 1);
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        when(channelRepository.findById(channel.getId())).thenReturn(Optional.of(channel));
+
+        // Act
+        channelCache.bindTo(meterRegistry);
+        channelCache.findById(channel.getId());
+        channelCache.findById(channel.getId());
+
+        // Assert
+        assertEquals(1, meterRegistry.get("epg.channel.cache.requests").tag("result", "hit").functionCounter()
+                                     .count(), 0);
+        assertEquals(1, meterRegistry.get("epg.channel.cache.requests").tag("result", "miss").functionCounter()
+                                     .count(), 0);
+        assertEquals(1, meterRegistry.get("epg.channel.cache.size").gauge().value(), 0);
+    }
+
+    @Test
+    public void findByIdNonExistingChannelIsNotCached() {
+        // Arrange
+        String id = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
+
+        when(channelRepository.findById(id)).thenReturn(Optional.empty());
+
+        // Act
+        channelCache.findById(id);
+        Optional<Channel> channelRetrieved = channelCache.findById(id);
+
+        // Assert
+        assertFalse(channelRetrieved.isPresent());
+        verify(channelRepository, times(2)).findById(id);
+        assertEquals(0, channelCache.size());
+    }
+
+    @Test
+    public void findByNameAndPositionUseCachedChannel() {
+        // Arrange
+        Channel channel = channel("06d6232c-dca4-493d-86fb-f82f057dc5d5", "Channel 1", 1);
+
+        channelCache.put(channel);
+
+        // Act
+        Optional<Channel> channelRetrievedByName = channelCache.findByName("Channel 1");
+        Optional<Channel> channelRetrievedByPosition = channelCache.findByPosition(1);
+
+        // Assert
+        assertSame(channel, channelRetrievedByName.orElse(null));
+        assertSame(channel, channelRetrievedByPosition.orElse(null));
+        verifyNoInteractions(channelRepository);
+    }
+
+    @Test
+    public void findAllByIdLoadsOnlyMissingChannels() {
+        // Arrange
+        Channel cachedChannel = channel("06d6232c-dca4-493d-86fb-f82f057dc5d5", "Channel 1", 1);
+        Channel missingChannel = channel("0d8d1a97-bec1-4d23-91b6-e164f6c635c6", "Channel 2", 2);
+
+        channelCache.put(cachedChannel);
+
+        when(channelRepository.findAllById(Collections.singletonList(missingChannel.getId())))
+                .thenReturn(Collections.singletonList(missingChannel));
+
+        // Act
+        List<Channel> channelsRetrieved =
+                channelCache.findAllById(Arrays.asList(cachedChannel.getId(), missingChannel.getId()));
+
+        // Assert
+        assertEquals(2, channelsRetrieved.size());
+        assertEquals(2, channelCache.size());
+    }
+
+    @Test
+    public void putAboveMaximumSizeEvictsLeastRecentlyUsedChannel() {
+        // Arrange
+        Channel channelOne = channel("06d6232c-dca4-493d-86fb-f82f057dc5d5", "Channel 1", 1);
+        Channel channelTwo = channel("0d8d1a97-bec1-4d23-91b6-e164f6c635c6", "Channel 2", 2);
+        Channel channelThree = channel("c0a4a28f-dccd-4c65-9b80-247377b0c3d9", "Channel 3", 3);
+
+        when(channelRepository.getChannelByName("Channel 1")).thenReturn(null);
+
+        // Act
+        channelCache.put(channelOne);
+        channelCache.put(channelTwo);
+        channelCache.put(channelThree);
+
+        Optional<Channel> evictedChannelRetrieved = channelCache.findByName("Channel 1");
+
+        // Assert
+        assertFalse(evictedChannelRetrieved.isPresent());
+        assertEquals(2, channelCache.size());
+    }
+
+    @Test
+    public void findByIdExpiredChannelIsReloaded() {
+        // Arrange
+        ChannelCache expiringChannelCache = new ChannelCache(channelRepository, 2, Duration.ofMillis(-1));
+        Channel channel = channel("06d6232c-dca4-493d-86fb-f82f057dc5d5", "Channel 1", 1);
+
+        when(channelRepository.findById(channel.getId())).thenReturn(Optional.of(channel));
+
+        // Act
+        expiringChannelCache.findById(channel.getId());
+        expiringChannelCache.findById(channel.getId());
+
+        // Assert
+        verify(channelRepository, times(2)).findById(channel.getId());
+    }
+
+    private Channel channel(String id, String name, int position) {
+        Channel channel = mock(Channel.class);
+
+        lenient().when(channel.getId()).thenReturn(id);
+        lenient().when(channel.getName()).thenReturn(name);
+        lenient().when(channel.getPosition()).thenReturn(position);
+
+        return channel;
+    }
+}
@@ -0,0 +1,74 @@
+package epg.service.channel;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import epg.model.Channel;
+import epg.repository.ChannelRepository;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ChannelListSnapshotCacheTests {
+
+    @Mock
+    private ChannelRepository channelRepository;
+
+    private ChannelListSnapshotCache channelListSnapshotCache;
+
+    @Before
+    public void setUp() {
+        channelListSnapshotCache = new ChannelListSnapshotCache(channelRepository, new ObjectMapper());
+    }
+
+    @Test
+    public void getReusesSnapshotUntilInvalidated() {
+        // Arrange
+        when(channelRepository.getAllChannels()).thenReturn(new ArrayList<>());
+
+        // Act
+        ChannelListSnapshot firstSnapshot = channelListSnapshotCache.get();
+        ChannelListSnapshot secondSnapshot = channelListSnapshotCache.get();
+
+        channelListSnapshotCache.invalidate();
+
+        ChannelListSnapshot snapshotAfterInvalidate = channelListSnapshotCache.get();
+
+        // Assert
+        assertSame(firstSnapshot, secondSnapshot);
+        assertNotSame(firstSnapshot, snapshotAfterInvalidate);
+        assertEquals(firstSnapshot.getETag(), snapshotAfterInvalidate.getETag());
+        verify(channelRepository, times(2)).getAllChannels();
+    }
+
+    @Test
+    public void getSerializesChannelsAndChangesETagWithContent() {
+        // Arrange
+        Channel channel = Channel.Builder.channelWith().withName("Channel 1").withPosition(1).withCategory("Sports")
+                                         .build();
+
+        when(channelRepository.getAllChannels()).thenReturn(new ArrayList<>(), Collections.singletonList(channel));
+
+        // Act
+        ChannelListSnapshot emptySnapshot = channelListSnapshotCache.get();
+
+        channelListSnapshotCache.invalidate();
+
+        ChannelListSnapshot populatedSnapshot = channelListSnapshotCache.get();
+
+        // Assert
+        assertEquals("[]", new String(emptySnapshot.getBody(), StandardCharsets.UTF_8));
+        assertEquals("[{\"id\":null,\"name\":\"Channel 1\",\"position\":1,\"category\":\"Sports\"}]",
+                     new String(populatedSnapshot.getBody(), StandardCharsets.UTF_8));
+        assertNotEquals(emptySnapshot.getETag(), populatedSnapshot.getETag());
+        assertTrue(populatedSnapshot.getETag().startsWith("\"") && populatedSnapshot.getETag().endsWith("\""));
+    }
+}
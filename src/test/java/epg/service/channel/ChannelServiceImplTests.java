@@ -3,18 +3,20 @@ package epg.service.channel;
 import epg.exception.BusinessException;
 import epg.model.Channel;
 import epg.repository.ChannelRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.Assert.*;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @RunWith(MockitoJUnitRunner.class)
 public class ChannelServiceImplTests {
@@ -22,6 +24,12 @@ public class ChannelServiceImplTests {
     @Mock
     private ChannelRepository channelRepository;
 
+    @Mock
+    private ChannelCache channelCache;
+
+    @Mock
+    private ChannelListSnapshotCache channelListSnapshotCache;
+
     @InjectMocks
     private ChannelServiceImpl channelServiceImpl;
 
@@ -36,13 +44,13 @@ public class ChannelServiceImplTests {
                 Channel.Builder.channelWith().withName(name).withPosition(position).withCategory(category).build();
 
         // Act
-        when(channelRepository.getChannelByName(name)).thenReturn(null);
-        when(channelRepository.getChannelByPosition(position)).thenReturn(null);
-        when(channelRepository.save(channelToBeCreated)).thenReturn(channelToBeCreated);
+        when(channelRepository.saveAndFlush(channelToBeCreated)).thenReturn(channelToBeCreated);
 
         Channel channelCreated = channelServiceImpl.createChannel(channelToBeCreated);
 
         // Assert
+        verify(channelCache, times(1)).put(channelToBeCreated);
+        verify(channelListSnapshotCache, times(1)).invalidate();
         assertNotNull(channelCreated);
         assertEquals(name, channelCreated.getName());
         assertEquals(position, channelCreated.getPosition());
@@ -157,8 +165,8 @@ public class ChannelServiceImplTests {
                                .withCategory(categoryChannelToBeCreated).build();
 
         // Arrange
-        when(channelRepository.getChannelByName(channelOriginalChannelOne.getName()))
-               .thenReturn(channelOriginalChannelOne);
+        when(channelRepository.saveAndFlush(channelToBeCreated))
+                .thenThrow(constraintViolation("PUBLIC.UX_CHANNELS_NAME_INDEX_5"));
 
         try {
             channelServiceImpl.createChannel(channelToBeCreated);
@@ -195,8 +203,8 @@ public class ChannelServiceImplTests {
                                .withCategory(categoryChannelToBeCreated).build();
 
         // Arrange
-        when(channelRepository.getChannelByPosition(channelOriginalChannelOne.getPosition()))
-               .thenReturn(channelOriginalChannelOne);
+        when(channelRepository.saveAndFlush(channelToBeCreated))
+                .thenThrow(constraintViolation("PUBLIC.UX_CHANNELS_POSITION_INDEX_5"));
 
         try {
             channelServiceImpl.createChannel(channelToBeCreated);
@@ -210,6 +218,22 @@ public class ChannelServiceImplTests {
         fail("Business exception of channel having a position already occupied was not thrown!");
     }
 
+    @Test(expected = DataIntegrityViolationException.class)
+    public void createChannelWithOtherConstraintViolationFails() {
+        // Arrange
+        Channel channelToBeCreated =
+                Channel.Builder.channelWith().withName("Channel 1").withPosition(1).withCategory("Sports").build();
+
+        // Act
+        when(channelRepository.saveAndFlush(channelToBeCreated))
+                .thenThrow(constraintViolation("PUBLIC.CONSTRAINT_5"));
+
+        channelServiceImpl.createChannel(channelToBeCreated);
+
+        // Assert
+        fail("Data integrity violation of unknown constraint was not rethrown!");
+    }
+
     @Test
     public void getAllChannelsReturnsPopulatedList() {
         // Arrange
@@ -231,7 +255,7 @@ public class ChannelServiceImplTests {
         List<Channel> allChannelsList = new ArrayList<>(Arrays.asList(channelOne, channelTwo));
 
         // Act
-        when(channelRepository.findAll()).thenReturn(allChannelsList);
+        when(channelRepository.getAllChannels()).thenReturn(allChannelsList);
 
         List<Channel> retrievedAllChannelsList = channelServiceImpl.getAllChannels();
 
@@ -245,7 +269,7 @@ public class ChannelServiceImplTests {
     @Test
     public void getAllChannelsReturnsEmptyList() {
         // Act
-        when(channelRepository.findAll()).thenReturn(new ArrayList<>());
+        when(channelRepository.getAllChannels()).thenReturn(new ArrayList<>());
 
         List<Channel> retrievedAllChannelsList = channelServiceImpl.getAllChannels();
 
@@ -253,4 +277,10 @@ public class ChannelServiceImplTests {
         assertNotNull(retrievedAllChannelsList);
         assertEquals(0, retrievedAllChannelsList.size());
     }
+
+    private DataIntegrityViolationException constraintViolation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                                                   new ConstraintViolationException("could not execute statement",
+                                                                                    null, constraintName));
+    }
 }
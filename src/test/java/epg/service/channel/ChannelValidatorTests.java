@@ -0,0 +1,43 @@
+package epg.service.channel;
+
+import epg.model.Channel;
+import epg.validation.ValidationResult;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ChannelValidatorTests {
+
+    @Test
+    public void validateCollectsAllViolations() {
+        // Arrange
+        Channel channel = Channel.Builder.channelWith().withPosition(0).build();
+
+        ValidationResult validationResult = new ValidationResult();
+
+        // Act
+        ChannelValidator.validate(channel, validationResult);
+
+        // Assert
+        assertEquals(3, validationResult.getViolations().size());
+        assertEquals("Channel needs to have a name!", validationResult.getViolations().get(0).getMessageKey());
+        assertEquals("Channel needs to have a position bigger than 0!",
+                     validationResult.getViolations().get(1).getMessageKey());
+        assertEquals("Channel needs to have a category!", validationResult.getViolations().get(2).getMessageKey());
+    }
+
+    @Test
+    public void validateValidChannelHasNoViolations() {
+        // Arrange
+        Channel channel = Channel.Builder.channelWith().withName("Channel 1").withPosition(1).withCategory("Sports")
+                                         .build();
+
+        ValidationResult validationResult = new ValidationResult();
+
+        // Act
+        ChannelValidator.validate(channel, validationResult);
+
+        // Assert
+        assertTrue(validationResult.isValid());
+    }
+}
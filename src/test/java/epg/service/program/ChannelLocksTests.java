@@ -0,0 +1,102 @@
+package epg.service.program;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.*;
+
+public class ChannelLocksTests {
+
+    private static final String CHANNEL_ID = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
+    private static final String OTHER_CHANNEL_ID = "4cb2a8b5-1f4e-4bb4-8d3a-6d2c8b8e9a5f";
+
+    @Test
+    public void withLockHoldsTheChannelLockWhileRunning() {
+        // Arrange
+        ChannelLocks channelLocks = new ChannelLocks(16);
+
+        // Act
+        boolean lockedWhileRunning = channelLocks.withLock(CHANNEL_ID, () -> channelLocks.isLocked(CHANNEL_ID));
+
+        // Assert
+        assertTrue(lockedWhileRunning);
+        assertFalse(channelLocks.isLocked(CHANNEL_ID));
+    }
+
+    @Test
+    public void withLocksHoldsEveryChannelLockWhileRunning() {
+        // Arrange
+        ChannelLocks channelLocks = new ChannelLocks(16);
+
+        // Act
+        boolean lockedWhileRunning = channelLocks.withLocks(Arrays.asList(CHANNEL_ID, OTHER_CHANNEL_ID, CHANNEL_ID),
+                () -> channelLocks.isLocked(CHANNEL_ID) && channelLocks.isLocked(OTHER_CHANNEL_ID));
+
+        // Assert
+        assertTrue(lockedWhileRunning);
+        assertFalse(channelLocks.isLocked(CHANNEL_ID));
+        assertFalse(channelLocks.isLocked(OTHER_CHANNEL_ID));
+    }
+
+    @Test
+    public void withLockReleasesTheChannelLockWhenTheActionFails() {
+        // Arrange
+        ChannelLocks channelLocks = new ChannelLocks(16);
+
+        // Act
+        try {
+            channelLocks.withLock(CHANNEL_ID, () -> {
+                throw new IllegalStateException();
+            });
+            fail();
+        } catch (IllegalStateException e) {
+            // Assert
+            assertFalse(channelLocks.isLocked(CHANNEL_ID));
+        }
+    }
+
+    @Test
+    public void withLockSerializesWritesToTheSameChannel() throws InterruptedException {
+        // Arrange
+        ChannelLocks channelLocks = new ChannelLocks(16);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean();
+        AtomicBoolean overlapped = new AtomicBoolean();
+
+        // Act
+        for (int i = 0; i < 200; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+
+                channelLocks.withLock(CHANNEL_ID, () -> {
+                    if (!running.compareAndSet(false, true)) {
+                        overlapped.set(true);
+                    }
+
+                    Thread.yield();
+                    running.set(false);
+
+                    return null;
+                });
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+
+        // Assert
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        assertFalse(overlapped.get());
+    }
+}
@@ -0,0 +1,107 @@
+package epg.service.program;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import epg.model.Program;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ProgramNdjsonImporterTests {
+
+    private static final String PROGRAM_LINE =
+            "{\"channelId\":\"06d6232c-dca4-493d-86fb-f82f057dc5d5\"," +
+                    "\"imageUrl\":\"http://cycloid.com/channel1-image/\"," +
+                    "\"title\":\"Best EPL Goals\",\"description\":\"Review the amazing goals!\"," +
+                    "\"startTime\":\"2020-07-18T11:45:47\",\"endTime\":\"2020-07-18T12:45:47\"}\n";
+
+    @Mock
+    private ProgramService programService;
+
+    private ObjectMapper objectMapper;
+
+    private ProgramNdjsonImporter programNdjsonImporter;
+
+    @Before
+    public void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        programNdjsonImporter = new ProgramNdjsonImporter(programService, objectMapper);
+    }
+
+    @Test
+    public void importProgramsWritesOneResultPerChunk() throws Exception {
+        // Arrange
+        StringBuilder input = new StringBuilder();
+
+        for (int i = 0; i < ProgramNdjsonImporter.CHUNK_SIZE + 1; i++) {
+            input.append(PROGRAM_LINE);
+        }
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // Act
+        when(programService.importPrograms(anyList()))
+                .thenAnswer(invocation -> createdResult(invocation.getArgument(0)));
+
+        programNdjsonImporter.importPrograms(
+                new ByteArrayInputStream(input.toString().getBytes(StandardCharsets.UTF_8)), outputStream);
+
+        String[] resultLines = outputStream.toString(StandardCharsets.UTF_8.name()).split("\n");
+
+        // Assert
+        verify(programService, times(2)).importPrograms(anyList());
+        assertEquals(2, resultLines.length);
+        assertEquals(ProgramNdjsonImporter.CHUNK_SIZE, objectMapper.readTree(resultLines[0]).get("created").asInt());
+        assertEquals(1, objectMapper.readTree(resultLines[1]).get("created").asInt());
+        assertEquals(ProgramNdjsonImporter.CHUNK_SIZE,
+                     objectMapper.readTree(resultLines[1]).get("items").get(0).get("index").asInt());
+    }
+
+    @Test
+    public void importProgramsRejectsUnreadableProgramsAndKeepsIndexes() throws Exception {
+        // Arrange
+        String input = PROGRAM_LINE + "{\"startTime\":\"not a time\"}\n" + PROGRAM_LINE;
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // Act
+        when(programService.importPrograms(anyList()))
+                .thenAnswer(invocation -> createdResult(invocation.getArgument(0)));
+
+        programNdjsonImporter.importPrograms(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)),
+                                             outputStream);
+
+        JsonNode result = objectMapper.readTree(outputStream.toString(StandardCharsets.UTF_8.name()));
+
+        // Assert
+        assertEquals(2, result.get("created").asInt());
+        assertEquals(1, result.get("rejected").asInt());
+        assertEquals(0, result.get("items").get(0).get("index").asInt());
+        assertEquals("REJECTED", result.get("items").get(1).get("status").asText());
+        assertEquals("Program could not be read!", result.get("items").get(1).get("messageKey").asText());
+        assertEquals(2, result.get("items").get(2).get("index").asInt());
+    }
+
+    private ProgramImportResult createdResult(List<Program> programs) {
+        List<ProgramImportItemResult> items = new ArrayList<>();
+
+        for (int i = 0; i < programs.size(); i++) {
+            items.add(ProgramImportItemResult.created(i, "id-" + i));
+        }
+
+        return new ProgramImportResult(items);
+    }
+}
@@ -0,0 +1,69 @@
+package epg.service.program;
+
+import epg.model.ProgramDeleteResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.Month;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ProgramRetentionJobTests {
+
+    @Mock
+    private ProgramService programService;
+
+    private MeterRegistry meterRegistry;
+
+    private ProgramRetentionJob programRetentionJob;
+
+    @Before
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        programRetentionJob = new ProgramRetentionJob(programService, meterRegistry, Duration.ofDays(14), 2,
+                                                      Duration.ofMillis(200));
+    }
+
+    @Test
+    public void pruneProgramsEndingBeforeDeletesInConfiguredBatches() {
+        // Arrange
+        LocalDateTime before = LocalDateTime.of(2020, Month.JULY, 18, 0, 0, 0);
+
+        when(programService.deleteProgramsEndingBefore(before, 2, Duration.ofMillis(200)))
+                .thenReturn(new ProgramDeleteResult(3));
+
+        // Act
+        int deleted = programRetentionJob.pruneProgramsEndingBefore(before);
+
+        // Assert
+        assertEquals(3, deleted);
+        assertEquals(3.0, meterRegistry.get("epg.program.retention.deleted").counter().count(), 0.0);
+    }
+
+    @Test
+    public void pruneExpiredProgramsWithoutExpiredProgramsDeletesNothing() {
+        // Arrange
+        when(programService.deleteProgramsEndingBefore(any(), eq(2), eq(Duration.ofMillis(200))))
+                .thenReturn(new ProgramDeleteResult(0));
+
+        // Act
+        programRetentionJob.pruneExpiredPrograms();
+
+        // Assert
+        verify(programService, times(1)).deleteProgramsEndingBefore(any(), anyInt(), any());
+        assertEquals(1, meterRegistry.get("epg.program.retention.runs").timer().count());
+        assertEquals(0.0, meterRegistry.get("epg.program.retention.deleted").counter().count(), 0.0);
+    }
+}
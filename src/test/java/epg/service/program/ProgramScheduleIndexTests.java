@@ -0,0 +1,225 @@
+package epg.service.program;
+
+import epg.model.Program;
+import epg.model.ScheduleSlot;
+import epg.repository.ProgramRepository;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ProgramScheduleIndexTests {
+
+    private static final String CHANNEL_ID = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
+
+    @Mock
+    private ProgramRepository programRepository;
+
+    @Spy
+    private ChannelLocks channelLocks = new ChannelLocks(16);
+
+    @InjectMocks
+    private ProgramScheduleIndex programScheduleIndex;
+
+    @Test
+    public void findOverlappingSlotLoadsChannelScheduleOnlyOnce() {
+        // Arrange
+        LocalDateTime startTime = LocalDateTime.of(2020, Month.JULY, 18, 11, 45, 47);
+        LocalDateTime endTime = LocalDateTime.of(2020, Month.JULY, 18, 12, 45, 47);
+
+        when(programRepository.getScheduleSlotsByChannelId(CHANNEL_ID)).thenReturn(new ArrayList<>());
+
+        // Act
+        programScheduleIndex.findOverlappingSlot(CHANNEL_ID, startTime, endTime, null);
+        programScheduleIndex.findOverlappingSlot(CHANNEL_ID, startTime, endTime, null);
+
+        // Assert
+        verify(programRepository, times(1)).getScheduleSlotsByChannelId(CHANNEL_ID);
+    }
+
+    @Test
+    public void findSlotAtLoadsChannelScheduleUnderChannelLock() {
+        // Arrange
+        LocalDateTime time = LocalDateTime.of(2020, Month.JULY, 18, 11, 45, 47);
+        boolean[] lockedWhileLoading = {false};
+
+        when(programRepository.getScheduleSlotsByChannelId(CHANNEL_ID)).thenAnswer(invocation -> {
+            lockedWhileLoading[0] = channelLocks.isLocked(CHANNEL_ID);
+
+            return new ArrayList<>();
+        });
+
+        // Act
+        programScheduleIndex.findSlotAt(CHANNEL_ID, time);
+
+        // Assert
+        assertTrue(lockedWhileLoading[0]);
+        assertFalse(channelLocks.isLocked(CHANNEL_ID));
+    }
+
+    @Test
+    public void findOverlappingSlotReturnsOverlappingSlot() {
+        // Arrange
+        ScheduleSlot slotOne = new ScheduleSlot("1", CHANNEL_ID, LocalDateTime.of(2020, Month.JULY, 18, 10, 0),
+                                                LocalDateTime.of(2020, Month.JULY, 18, 11, 0));
+        ScheduleSlot slotTwo = new ScheduleSlot("2", CHANNEL_ID, LocalDateTime.of(2020, Month.JULY, 18, 12, 0),
+                                                LocalDateTime.of(2020, Month.JULY, 18, 13, 0));
+
+        when(programRepository.getScheduleSlotsByChannelId(CHANNEL_ID)).thenReturn(Arrays.asList(slotOne, slotTwo));
+
+        // Act
+        Optional<ScheduleSlot> overlappingSlot = programScheduleIndex
+                .findOverlappingSlot(CHANNEL_ID, LocalDateTime.of(2020, Month.JULY, 18, 10, 30),
+                                     LocalDateTime.of(2020, Month.JULY, 18, 11, 30), null);
+
+        // Assert
+        assertTrue(overlappingSlot.isPresent());
+        assertEquals("1", overlappingSlot.get().getId());
+    }
+
+    @Test
+    public void findOverlappingSlotBetweenSlotsReturnsEmpty() {
+        // Arrange
+        ScheduleSlot slotOne = new ScheduleSlot("1", CHANNEL_ID, LocalDateTime.of(2020, Month.JULY, 18, 10, 0),
+                                                LocalDateTime.of(2020, Month.JULY, 18, 11, 0));
+        ScheduleSlot slotTwo = new ScheduleSlot("2", CHANNEL_ID, LocalDateTime.of(2020, Month.JULY, 18, 12, 0),
+                                                LocalDateTime.of(2020, Month.JULY, 18, 13, 0));
+
+        when(programRepository.getScheduleSlotsByChannelId(CHANNEL_ID)).thenReturn(Arrays.asList(slotOne, slotTwo));
+
+        // Act
+        Optional<ScheduleSlot> overlappingSlot = programScheduleIndex
+                .findOverlappingSlot(CHANNEL_ID, LocalDateTime.of(2020, Month.JULY, 18, 11, 0, 1),
+                                     LocalDateTime.of(2020, Month.JULY, 18, 11, 59, 59), null);
+
+        // Assert
+        assertFalse(overlappingSlot.isPresent());
+    }
+
+    @Test
+    public void findOverlappingSlotIgnoresExcludedProgram() {
+        // Arrange
+        ScheduleSlot slotOne = new ScheduleSlot("1", CHANNEL_ID, LocalDateTime.of(2020, Month.JULY, 18, 10, 0),
+                                                LocalDateTime.of(2020, Month.JULY, 18, 11, 0));
+
+        when(programRepository.getScheduleSlotsByChannelId(CHANNEL_ID)).thenReturn(Arrays.asList(slotOne));
+
+        // Act
+        Optional<ScheduleSlot> overlappingSlot = programScheduleIndex
+                .findOverlappingSlot(CHANNEL_ID, LocalDateTime.of(2020, Month.JULY, 18, 10, 0),
+                                     LocalDateTime.of(2020, Month.JULY, 18, 11, 30), "1");
+
+        // Assert
+        assertFalse(overlappingSlot.isPresent());
+    }
+
+    @Test
+    public void putAndRemoveKeepLoadedScheduleInSync() {
+        // Arrange
+        LocalDateTime startTime = LocalDateTime.of(2020, Month.JULY, 18, 11, 45, 47);
+        LocalDateTime endTime = LocalDateTime.of(2020, Month.JULY, 18, 12, 45, 47);
+
+        Program program = mock(Program.class);
+
+        when(program.getId()).thenReturn("1");
+        when(program.getChannelId()).thenReturn(CHANNEL_ID);
+        when(program.getStartTime()).thenReturn(startTime);
+        when(program.getEndTime()).thenReturn(endTime);
+        when(programRepository.getScheduleSlotsByChannelId(CHANNEL_ID)).thenReturn(new ArrayList<>());
+
+        programScheduleIndex.findOverlappingSlot(CHANNEL_ID, startTime, endTime, null);
+
+        // Act
+        programScheduleIndex.put(program);
+
+        Optional<ScheduleSlot> overlappingSlotAfterPut =
+                programScheduleIndex.findOverlappingSlot(CHANNEL_ID, startTime, endTime, null);
+
+        programScheduleIndex.remove("1");
+
+        Optional<ScheduleSlot> overlappingSlotAfterRemove =
+                programScheduleIndex.findOverlappingSlot(CHANNEL_ID, startTime, endTime, null);
+
+        // Assert
+        assertTrue(overlappingSlotAfterPut.isPresent());
+        assertFalse(overlappingSlotAfterRemove.isPresent());
+    }
+
+    @Test
+    public void findSlotAtReturnsSlotAiringAtTime() {
+        // Arrange
+        ScheduleSlot slotOne = new ScheduleSlot("1", CHANNEL_ID, LocalDateTime.of(2020, Month.JULY, 18, 10, 0),
+                                                LocalDateTime.of(2020, Month.JULY, 18, 11, 0));
+        ScheduleSlot slotTwo = new ScheduleSlot("2", CHANNEL_ID, LocalDateTime.of(2020, Month.JULY, 18, 12, 0),
+                                                LocalDateTime.of(2020, Month.JULY, 18, 13, 0));
+
+        when(programRepository.getScheduleSlotsByChannelId(CHANNEL_ID)).thenReturn(Arrays.asList(slotOne, slotTwo));
+
+        // Act
+        Optional<ScheduleSlot> currentSlot =
+                programScheduleIndex.findSlotAt(CHANNEL_ID, LocalDateTime.of(2020, Month.JULY, 18, 10, 30));
+        Optional<ScheduleSlot> nextSlot =
+                programScheduleIndex.findNextSlot(CHANNEL_ID, LocalDateTime.of(2020, Month.JULY, 18, 10, 30));
+
+        // Assert
+        assertTrue(currentSlot.isPresent());
+        assertEquals("1", currentSlot.get().getId());
+        assertTrue(nextSlot.isPresent());
+        assertEquals("2", nextSlot.get().getId());
+    }
+
+    @Test
+    public void findPreviousSlotReturnsLastSlotStartingBeforeTime() {
+        // Arrange
+        ScheduleSlot slotOne = new ScheduleSlot("1", CHANNEL_ID, LocalDateTime.of(2020, Month.JULY, 18, 10, 0),
+                                                LocalDateTime.of(2020, Month.JULY, 18, 11, 0));
+        ScheduleSlot slotTwo = new ScheduleSlot("2", CHANNEL_ID, LocalDateTime.of(2020, Month.JULY, 18, 12, 0),
+                                                LocalDateTime.of(2020, Month.JULY, 18, 13, 0));
+
+        when(programRepository.getScheduleSlotsByChannelId(CHANNEL_ID)).thenReturn(Arrays.asList(slotOne, slotTwo));
+
+        // Act
+        Optional<ScheduleSlot> previousSlot =
+                programScheduleIndex.findPreviousSlot(CHANNEL_ID, LocalDateTime.of(2020, Month.JULY, 18, 12, 0));
+        Optional<ScheduleSlot> noPreviousSlot =
+                programScheduleIndex.findPreviousSlot(CHANNEL_ID, LocalDateTime.of(2020, Month.JULY, 18, 10, 0));
+
+        // Assert
+        assertTrue(previousSlot.isPresent());
+        assertEquals("1", previousSlot.get().getId());
+        assertFalse(noPreviousSlot.isPresent());
+    }
+
+    @Test
+    public void findSlotAtBetweenSlotsReturnsEmpty() {
+        // Arrange
+        ScheduleSlot slotOne = new ScheduleSlot("1", CHANNEL_ID, LocalDateTime.of(2020, Month.JULY, 18, 10, 0),
+                                                LocalDateTime.of(2020, Month.JULY, 18, 11, 0));
+        ScheduleSlot slotTwo = new ScheduleSlot("2", CHANNEL_ID, LocalDateTime.of(2020, Month.JULY, 18, 12, 0),
+                                                LocalDateTime.of(2020, Month.JULY, 18, 13, 0));
+
+        when(programRepository.getScheduleSlotsByChannelId(CHANNEL_ID)).thenReturn(Arrays.asList(slotOne, slotTwo));
+
+        // Act
+        Optional<ScheduleSlot> currentSlot =
+                programScheduleIndex.findSlotAt(CHANNEL_ID, LocalDateTime.of(2020, Month.JULY, 18, 11, 0));
+        Optional<ScheduleSlot> nextSlot =
+                programScheduleIndex.findNextSlot(CHANNEL_ID, LocalDateTime.of(2020, Month.JULY, 18, 12, 0));
+
+        // Assert
+        assertFalse(currentSlot.isPresent());
+        assertFalse(nextSlot.isPresent());
+    }
+}
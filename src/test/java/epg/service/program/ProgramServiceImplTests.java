@@ -4,23 +4,44 @@ import epg.exception.BusinessException;
 import epg.exception.ResourceNotFoundException;
 import epg.exception.TechnicalException;
 import epg.model.Channel;
+import epg.model.ChannelNowAndNext;
+import epg.model.ChannelPrograms;
 import epg.model.Program;
+import epg.model.ProgramDeleteResult;
+import epg.model.ProgramLookupResult;
+import epg.model.ProgramView;
+import epg.model.ScheduleSlot;
 import epg.repository.ChannelRepository;
 import epg.repository.ProgramRepository;
+import epg.service.channel.ChannelCache;
+import epg.validation.Violation;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.data.domain.PageRequest;
 
+import java.sql.SQLException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.Month;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -30,9 +51,21 @@ public class ProgramServiceImplTests {
     @Mock
     private ChannelRepository channelRepository;
 
+    @Mock
+    private ChannelCache channelCache;
+
     @Mock
     private ProgramRepository programRepository;
 
+    @Mock
+    private ProgramScheduleIndex programScheduleIndex;
+
+    @Spy
+    private ChannelLocks channelLocks = new ChannelLocks(16);
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private ProgramServiceImpl programServiceImpl;
 
@@ -51,8 +84,9 @@ public class ProgramServiceImplTests {
                                .withDescription(description).withStartTime(startTime).withEndTime(endTime).build();
 
         // Act
-        when(channelRepository.findById(channelId)).thenReturn(Optional.of(new Channel()));
-        when(programRepository.getProgramByChannelIdAndTime(channelId, startTime, endTime)).thenReturn(null);
+        when(channelCache.findById(channelId)).thenReturn(Optional.of(new Channel()));
+        when(programScheduleIndex.findOverlappingSlot(channelId, startTime, endTime, null))
+                .thenReturn(Optional.empty());
         when(programRepository.save(programToBeCreated)).thenReturn(programToBeCreated);
 
         Program programCreated = programServiceImpl.createProgram(programToBeCreated);
@@ -65,6 +99,8 @@ public class ProgramServiceImplTests {
         assertEquals(description, programCreated.getDescription());
         assertEquals(startTime, programCreated.getStartTime());
         assertEquals(endTime, programCreated.getEndTime());
+        assertEquals(1, meterRegistry.get("epg.program.validation").tag("step", "channel_exists").timer().count());
+        assertEquals(1, meterRegistry.get("epg.program.validation").tag("step", "overlap").timer().count());
     }
 
     @Test(expected = BusinessException.class)
@@ -284,7 +320,7 @@ public class ProgramServiceImplTests {
                                .withDescription(description).withStartTime(startTime).withEndTime(endTime).build();
 
         // Act
-        when(channelRepository.findById(channelId))
+        when(channelCache.findById(channelId))
                 .thenThrow(new ResourceNotFoundException("Channel with id " + channelId + " not found!",
                                                          "Id: " + channelId));
 
@@ -299,6 +335,97 @@ public class ProgramServiceImplTests {
         fail("Resource not found exception when channel does not exist was not thrown!");
     }
 
+    @Test(expected = ResourceNotFoundException.class)
+    public void createProgramWithMalformedChannelIdFails() {
+        // Arrange
+        String channelId = "not-a-channel-id";
+        String imageUrl = "http://cycloid.com/channel1-image/";
+        String title = "Best EPL Goals";
+        String description = "Review the amazing goals scored in the last English Premier League season!";
+        LocalDateTime startTime = LocalDateTime.of(2020, Month.JULY, 18, 11, 45, 47);
+        LocalDateTime endTime = LocalDateTime.of(2020, Month.JULY, 18, 12, 45, 47);
+
+        Program programToBeCreated =
+                Program.Builder.programWith().withChannelId(channelId).withImageUrl(imageUrl).withTitle(title)
+                               .withDescription(description).withStartTime(startTime).withEndTime(endTime).build();
+
+        // Act
+        try {
+            programServiceImpl.createProgram(programToBeCreated);
+        } catch (ResourceNotFoundException re) {
+            // Assert
+            String exceptionMessage = "Channel with id " + channelId + " not found!";
+            assertEquals(exceptionMessage, re.getMessageKey());
+            verify(channelCache, never()).findById(anyString());
+            verify(programRepository, never()).save(any());
+            throw re;
+        }
+
+        fail("Resource not found exception when channel id is malformed was not thrown!");
+    }
+
+    @Test
+    public void createProgramWithUppercaseChannelIdUsesCanonicalId() {
+        // Arrange
+        String channelId = "0d8d1a97-bec1-4d23-91b6-e164f6c635c6";
+        String imageUrl = "http://cycloid.com/channel1-image/";
+        String title = "Best EPL Goals";
+        String description = "Review the amazing goals scored in the last English Premier League season!";
+        LocalDateTime startTime = LocalDateTime.of(2020, Month.JULY, 18, 11, 45, 47);
+        LocalDateTime endTime = LocalDateTime.of(2020, Month.JULY, 18, 12, 45, 47);
+
+        Program programToBeCreated =
+                Program.Builder.programWith().withChannelId(channelId.toUpperCase(Locale.ROOT)).withImageUrl(imageUrl)
+                               .withTitle(title).withDescription(description).withStartTime(startTime)
+                               .withEndTime(endTime).build();
+
+        // Act
+        when(channelCache.findById(channelId)).thenReturn(Optional.of(new Channel()));
+        when(programScheduleIndex.findOverlappingSlot(channelId, startTime, endTime, null))
+                .thenReturn(Optional.empty());
+        when(programRepository.save(programToBeCreated)).thenReturn(programToBeCreated);
+
+        Program programCreated = programServiceImpl.createProgram(programToBeCreated);
+
+        // Assert
+        assertEquals(channelId, programCreated.getChannelId());
+        verify(programScheduleIndex).put(programCreated);
+    }
+
+    @Test(expected = ResourceNotFoundException.class)
+    public void createProgramWithChannelForeignKeyViolationFails() {
+        // Arrange
+        String channelId = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
+        String imageUrl = "http://cycloid.com/channel1-image/";
+        String title = "Best EPL Goals";
+        String description = "Review the amazing goals scored in the last English Premier League season!";
+        LocalDateTime startTime = LocalDateTime.of(2020, Month.JULY, 18, 11, 45, 47);
+        LocalDateTime endTime = LocalDateTime.of(2020, Month.JULY, 18, 12, 45, 47);
+
+        Program programToBeCreated =
+                Program.Builder.programWith().withChannelId(channelId).withImageUrl(imageUrl).withTitle(title)
+                               .withDescription(description).withStartTime(startTime).withEndTime(endTime).build();
+
+        // Act
+        when(channelCache.findById(channelId)).thenReturn(Optional.of(new Channel()));
+        when(programScheduleIndex.findOverlappingSlot(channelId, startTime, endTime, null))
+                .thenReturn(Optional.empty());
+        when(programRepository.save(programToBeCreated)).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement", new ConstraintViolationException(
+                "could not execute statement", new SQLException(), ProgramServiceImpl.CHANNEL_CONSTRAINT)));
+
+        try {
+            programServiceImpl.createProgram(programToBeCreated);
+        } catch (ResourceNotFoundException re) {
+            // Assert
+            assertEquals("Channel with id " + channelId + " not found!", re.getMessageKey());
+            verify(programScheduleIndex, never()).put(any());
+            throw re;
+        }
+
+        fail("Resource not found exception when the channel foreign key is violated was not thrown!");
+    }
+
     @Test
     public void createProgramThatOverlapsExistingProgramFromDifferentChannelSuccessfully() {
         // Arrange
@@ -316,11 +443,11 @@ public class ProgramServiceImplTests {
                                .withDescription(descriptionProgramChannelOne).withStartTime(startTimeProgramChannelOne)
                                .withEndTime(endTimeProgramChannelOne).build();
 
-        when(channelRepository.findById(channelIdChannelOne)).thenReturn(Optional.of(new Channel()));
-        when(programRepository
-                     .getProgramByChannelIdAndTime(channelIdChannelOne, startTimeProgramChannelOne,
-                                                   endTimeProgramChannelOne))
-                .thenReturn(null);
+        when(channelCache.findById(channelIdChannelOne)).thenReturn(Optional.of(new Channel()));
+        when(programScheduleIndex
+                     .findOverlappingSlot(channelIdChannelOne, startTimeProgramChannelOne,
+                                          endTimeProgramChannelOne, null))
+                .thenReturn(Optional.empty());
 
         programServiceImpl.createProgram(programToBeCreatedChannelOne);
 
@@ -338,11 +465,11 @@ public class ProgramServiceImplTests {
                                .withEndTime(endTimeProgramChannelTwo).build();
 
         // Act
-        when(channelRepository.findById(channelIdChannelTwo)).thenReturn(Optional.of(new Channel()));
-        when(programRepository
-                     .getProgramByChannelIdAndTime(channelIdChannelTwo, startTimeProgramChannelTwo,
-                                                   endTimeProgramChannelTwo))
-                .thenReturn(null);
+        when(channelCache.findById(channelIdChannelTwo)).thenReturn(Optional.of(new Channel()));
+        when(programScheduleIndex
+                     .findOverlappingSlot(channelIdChannelTwo, startTimeProgramChannelTwo,
+                                          endTimeProgramChannelTwo, null))
+                .thenReturn(Optional.empty());
         when(programRepository.save(programToBeCreatedChannelTwo)).thenReturn(programToBeCreatedChannelTwo);
 
         Program programChannelTwoCreated = programServiceImpl.createProgram(programToBeCreatedChannelTwo);
@@ -376,11 +503,11 @@ public class ProgramServiceImplTests {
                                .withStartTime(startTimeProgramOneChannelOne)
                                .withEndTime(endTimeProgramOneChannelOne).build();
 
-        when(channelRepository.findById(channelIdChannelOne)).thenReturn(Optional.of(new Channel()));
-        when(programRepository
-                     .getProgramByChannelIdAndTime(channelIdChannelOne, startTimeProgramOneChannelOne,
-                                                   endTimeProgramOneChannelOne))
-                .thenReturn(null);
+        when(channelCache.findById(channelIdChannelOne)).thenReturn(Optional.of(new Channel()));
+        when(programScheduleIndex
+                     .findOverlappingSlot(channelIdChannelOne, startTimeProgramOneChannelOne,
+                                          endTimeProgramOneChannelOne, null))
+                .thenReturn(Optional.empty());
         when(programRepository.save(programOneToBeCreatedChannelOne)).thenReturn(programOneToBeCreatedChannelOne);
 
         programServiceImpl.createProgram(programOneToBeCreatedChannelOne);
@@ -400,11 +527,11 @@ public class ProgramServiceImplTests {
                                .withEndTime(endTimeProgramTwoChannelOne).build();
 
         // Act
-        when(channelRepository.findById(channelIdChannelOne)).thenReturn(Optional.of(new Channel()));
-        when(programRepository
-                     .getProgramByChannelIdAndTime(channelIdChannelOne, startTimeProgramTwoChannelOne,
-                                                   endTimeProgramTwoChannelOne))
-                .thenReturn(null);
+        when(channelCache.findById(channelIdChannelOne)).thenReturn(Optional.of(new Channel()));
+        when(programScheduleIndex
+                     .findOverlappingSlot(channelIdChannelOne, startTimeProgramTwoChannelOne,
+                                          endTimeProgramTwoChannelOne, null))
+                .thenReturn(Optional.empty());
         when(programRepository.save(programTwoToBeCreatedChannelOne)).thenReturn(programTwoToBeCreatedChannelOne);
 
         Program programTwoChannelOneCreated = programServiceImpl.createProgram(programTwoToBeCreatedChannelOne);
@@ -438,11 +565,11 @@ public class ProgramServiceImplTests {
                                .withStartTime(startTimeProgramOneChannelOne)
                                .withEndTime(endTimeProgramOneChannelOne).build();
 
-        when(channelRepository.findById(channelIdChannelOne)).thenReturn(Optional.of(new Channel()));
-        when(programRepository
-                     .getProgramByChannelIdAndTime(channelIdChannelOne, startTimeProgramOneChannelOne,
-                                                   endTimeProgramOneChannelOne))
-                .thenReturn(null);
+        when(channelCache.findById(channelIdChannelOne)).thenReturn(Optional.of(new Channel()));
+        when(programScheduleIndex
+                     .findOverlappingSlot(channelIdChannelOne, startTimeProgramOneChannelOne,
+                                          endTimeProgramOneChannelOne, null))
+                .thenReturn(Optional.empty());
         when(programRepository.save(programOneToBeCreatedChannelOne)).thenReturn(programOneToBeCreatedChannelOne);
 
         Program programOneChannelOneCreated = programServiceImpl.createProgram(programOneToBeCreatedChannelOne);
@@ -462,11 +589,11 @@ public class ProgramServiceImplTests {
                                .withEndTime(endTimeProgramTwoChannelOne).build();
 
         // Act
-        when(channelRepository.findById(channelIdChannelOne)).thenReturn(Optional.of(new Channel()));
-        when(programRepository
-                     .getProgramByChannelIdAndTime(channelIdChannelOne, startTimeProgramTwoChannelOne,
-                                                   endTimeProgramTwoChannelOne))
-                .thenReturn(programOneChannelOneCreated);
+        when(channelCache.findById(channelIdChannelOne)).thenReturn(Optional.of(new Channel()));
+        when(programScheduleIndex
+                     .findOverlappingSlot(channelIdChannelOne, startTimeProgramTwoChannelOne,
+                                          endTimeProgramTwoChannelOne, null))
+                .thenReturn(Optional.of(ScheduleSlot.of(programOneChannelOneCreated)));
 
         try {
             programServiceImpl.createProgram(programTwoToBeCreatedChannelOne);
@@ -481,6 +608,100 @@ public class ProgramServiceImplTests {
         fail("Business exception for program overlapping existing program was not thrown!");
     }
 
+    @Test
+    public void importProgramsReportsCreatedAndRejectedPrograms() {
+        // Arrange
+        String channelId = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
+        String nonExistingChannelId = "0d8d1a97-bec1-4d23-91b6-e164f6c635c6";
+        String imageUrl = "http://cycloid.com/channel1-image/";
+        String title = "Best EPL Goals";
+        String description = "Review the amazing goals scored in the last English Premier League season!";
+        LocalDateTime startTime = LocalDateTime.of(2020, Month.JULY, 18, 10, 0, 0);
+
+        Channel channel = mock(Channel.class);
+
+        Program validProgram =
+                Program.Builder.programWith().withChannelId(channelId).withImageUrl(imageUrl).withTitle(title)
+                               .withDescription(description).withStartTime(startTime.plusHours(2))
+                               .withEndTime(startTime.plusHours(3)).build();
+
+        Program programWithoutTitle =
+                Program.Builder.programWith().withChannelId(channelId).withImageUrl(imageUrl)
+                               .withDescription(description).withStartTime(startTime.plusHours(4))
+                               .withEndTime(startTime.plusHours(5)).build();
+
+        Program programOverlappingBatch =
+                Program.Builder.programWith().withChannelId(channelId).withImageUrl(imageUrl).withTitle(title)
+                               .withDescription(description).withStartTime(startTime.plusHours(2).plusMinutes(30))
+                               .withEndTime(startTime.plusHours(4)).build();
+
+        Program programOverlappingExisting =
+                Program.Builder.programWith().withChannelId(channelId).withImageUrl(imageUrl).withTitle(title)
+                               .withDescription(description).withStartTime(startTime)
+                               .withEndTime(startTime.plusMinutes(30)).build();
+
+        Program programWithNonExistingChannel =
+                Program.Builder.programWith().withChannelId(nonExistingChannelId).withImageUrl(imageUrl)
+                               .withTitle(title).withDescription(description).withStartTime(startTime)
+                               .withEndTime(startTime.plusHours(1)).build();
+
+        ScheduleSlot existingSlot =
+                new ScheduleSlot("c0a4a28f-dccd-4c65-9b80-247377b0c3d9", channelId, startTime.minusMinutes(30),
+                                 startTime.plusMinutes(15));
+
+        List<Program> programs =
+                Arrays.asList(validProgram, programWithoutTitle, programOverlappingBatch, programOverlappingExisting,
+                              programWithNonExistingChannel);
+
+        // Act
+        when(channel.getId()).thenReturn(channelId);
+        when(channelCache.findAllById(new HashSet<>(Arrays.asList(channelId, nonExistingChannelId))))
+                .thenReturn(Collections.singletonList(channel));
+        when(programRepository.getEarliestStartTimeOfProgramsAiringAt(Collections.singletonList(channelId), startTime))
+                .thenReturn(existingSlot.getStartTime());
+        when(programRepository.getScheduleSlotsByChannelIdsAndTime(Collections.singleton(channelId),
+                                                                   existingSlot.getStartTime(), startTime,
+                                                                   startTime.plusHours(4)))
+                .thenReturn(Collections.singletonList(existingSlot));
+        when(programRepository.saveAll(Collections.singletonList(validProgram)))
+                .thenReturn(Collections.singletonList(validProgram));
+
+        ProgramImportResult importResult = programServiceImpl.importPrograms(programs);
+
+        // Assert
+        assertEquals(1, importResult.getCreated());
+        assertEquals(4, importResult.getRejected());
+        assertEquals(ProgramImportItemResult.Status.CREATED, importResult.getItems().get(0).getStatus());
+        assertEquals("Program needs to have a title!", importResult.getItems().get(1).getMessageKey());
+        assertEquals("There is already a program starting at " + validProgram.getStartTime() + " and ending at " +
+                             validProgram.getEndTime(), importResult.getItems().get(2).getMessageKey());
+        assertEquals("There is already a program starting at " + existingSlot.getStartTime() + " and ending at " +
+                             existingSlot.getEndTime(), importResult.getItems().get(3).getMessageKey());
+        assertEquals("Channel with id " + nonExistingChannelId + " not found!",
+                     importResult.getItems().get(4).getMessageKey());
+        assertEquals(Violation.Type.NOT_FOUND, importResult.getItems().get(4).getViolations().get(0).getType());
+        assertNull(importResult.getItems().get(0).getViolations());
+        verify(programScheduleIndex, times(1)).put(validProgram);
+        verify(programScheduleIndex, never()).findPreviousSlot(anyString(), any());
+    }
+
+    @Test(expected = BusinessException.class)
+    public void importProgramsAboveMaximumSizeFails() {
+        // Arrange
+        List<Program> programs = Collections.nCopies(ProgramServiceImpl.MAX_IMPORT_SIZE + 1, new Program());
+
+        // Act
+        try {
+            programServiceImpl.importPrograms(programs);
+        } catch (BusinessException be) {
+            String exceptionMessage = "An import can have at most " + ProgramServiceImpl.MAX_IMPORT_SIZE + " programs!";
+            assertEquals(exceptionMessage, be.getMessage());
+            throw be;
+        }
+
+        fail("Business exception when importing too many programs was not thrown!");
+    }
+
     @Test
     public void getAllProgramsByChannelIdReturnsPopulatedList() {
         // Arrange
@@ -520,7 +741,8 @@ public class ProgramServiceImplTests {
         // Act
         when(programRepository.getAllProgramsByChannelId(anyString())).thenReturn(allProgramsFromChannelList);
 
-        List<Program> retrievedAllProgramsList = programServiceImpl.getAllProgramsByChannelId(anyString());
+        List<Program> retrievedAllProgramsList =
+                programServiceImpl.getAllProgramsByChannelId(channelIdChannelOne, ProgramView.FULL);
 
         // Assert
         assertNotNull(retrievedAllProgramsList);
@@ -529,19 +751,427 @@ public class ProgramServiceImplTests {
 
     @Test
     public void getAllProgramsByChannelIdReturnsEmptyList() {
+        // Arrange
+        String channelId = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
+
         // Act
         when(programRepository.getAllProgramsByChannelId(anyString())).thenReturn(new ArrayList<>());
 
-        List<Program> retrievedAllProgramsList = programServiceImpl.getAllProgramsByChannelId(anyString());
+        List<Program> retrievedAllProgramsList =
+                programServiceImpl.getAllProgramsByChannelId(channelId, ProgramView.FULL);
 
         // Assert
         assertNotNull(retrievedAllProgramsList);
         assertEquals(0, retrievedAllProgramsList.size());
     }
 
+    @Test
+    public void getProgramsByChannelIdAndTimeWindowFirstPageSuccessfully() {
+        // Arrange
+        String channelId = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
+        LocalDateTime from = LocalDateTime.of(2020, Month.JULY, 18, 12, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2020, Month.JULY, 18, 18, 0, 0);
+
+        LocalDateTime previousStartTime = LocalDateTime.of(2020, Month.JULY, 18, 11, 30, 0);
+
+        Program program =
+                Program.Builder.programWith().withChannelId(channelId).withStartTime(previousStartTime)
+                               .withEndTime(to).build();
+
+        // Act
+        when(channelCache.findById(channelId)).thenReturn(Optional.of(mock(Channel.class)));
+        when(programScheduleIndex.isLoaded(channelId)).thenReturn(true);
+        when(programScheduleIndex.findPreviousSlot(channelId, from))
+                .thenReturn(Optional.of(new ScheduleSlot("1", channelId, previousStartTime, from.plusMinutes(30))));
+        when(programRepository.getProgramsByChannelIdAndTimeWindow(channelId, previousStartTime, from, to,
+                                                                   PageRequest.of(0, 10)))
+                .thenReturn(new ArrayList<>(Arrays.asList(program)));
+
+        List<Program> retrievedProgramsList =
+                programServiceImpl.getProgramsByChannelIdAndTimeWindow(channelId, from, to, null, null, 10,
+                                                                       ProgramView.FULL);
+
+        // Assert
+        assertNotNull(retrievedProgramsList);
+        assertEquals(1, retrievedProgramsList.size());
+        verify(programRepository, never()).getEarliestStartTimeOfProgramsAiringAt(any(), any());
+        verify(programRepository, never())
+                .getProgramsByChannelIdAndTimeWindowAfter(anyString(), any(), any(), any(), any(), anyString(),
+                                                          any());
+    }
+
+    @Test
+    public void getProgramsByChannelIdAndTimeWindowOfNonExistingChannelReturnsEmptyList() {
+        // Arrange
+        String channelId = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
+        LocalDateTime from = LocalDateTime.of(2020, Month.JULY, 18, 12, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2020, Month.JULY, 18, 18, 0, 0);
+
+        // Act
+        when(channelCache.findById(channelId)).thenReturn(Optional.empty());
+
+        List<Program> retrievedProgramsList =
+                programServiceImpl.getProgramsByChannelIdAndTimeWindow(channelId, from, to, null, null, 10,
+                                                                       ProgramView.FULL);
+
+        // Assert
+        assertEquals(0, retrievedProgramsList.size());
+        verify(programScheduleIndex, never()).findPreviousSlot(anyString(), any());
+        verify(programRepository, never())
+                .getProgramsByChannelIdAndTimeWindow(anyString(), any(), any(), any(), any());
+    }
+
+    @Test
+    public void getAllProgramSummariesByChannelIdSuccessfully() {
+        // Arrange
+        String channelId = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
+        LocalDateTime startTime = LocalDateTime.of(2020, Month.JULY, 18, 12, 0, 0);
+
+        Program summary = new Program("c0a4a28f-dccd-4c65-9b80-247377b0c3d9", channelId, "Morning News", startTime,
+                                      startTime.plusHours(1));
+
+        // Act
+        when(programRepository.getAllProgramSummariesByChannelId(channelId))
+                .thenReturn(new ArrayList<>(Arrays.asList(summary)));
+
+        List<Program> retrievedProgramsList =
+                programServiceImpl.getAllProgramsByChannelId(channelId, ProgramView.SUMMARY);
+
+        // Assert
+        assertEquals(Arrays.asList(summary), retrievedProgramsList);
+        assertNull(retrievedProgramsList.get(0).getDescription());
+        assertNull(retrievedProgramsList.get(0).getImageUrl());
+        verify(programRepository, never()).getAllProgramsByChannelId(anyString());
+    }
+
+    @Test
+    public void getProgramSummariesByChannelIdAndTimeWindowNextPageSuccessfully() {
+        // Arrange
+        String channelId = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
+        String afterId = "c0a4a28f-dccd-4c65-9b80-247377b0c3d9";
+        LocalDateTime from = LocalDateTime.of(2020, Month.JULY, 18, 12, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2020, Month.JULY, 18, 18, 0, 0);
+        LocalDateTime afterStartTime = LocalDateTime.of(2020, Month.JULY, 18, 13, 0, 0);
+
+        // Act
+        when(channelCache.findById(channelId)).thenReturn(Optional.of(mock(Channel.class)));
+        when(programRepository.getProgramSummariesByChannelIdAndTimeWindowAfter(
+                channelId, afterStartTime, from, to, afterStartTime, afterId, PageRequest.of(0, 10)))
+                .thenReturn(new ArrayList<>());
+
+        List<Program> retrievedProgramsList = programServiceImpl
+                .getProgramsByChannelIdAndTimeWindow(channelId, from, to, afterStartTime, afterId, 10,
+                                                     ProgramView.SUMMARY);
+
+        // Assert
+        assertNotNull(retrievedProgramsList);
+        assertEquals(0, retrievedProgramsList.size());
+        verify(programRepository, never())
+                .getProgramsByChannelIdAndTimeWindowAfter(anyString(), any(), any(), any(), any(), anyString(),
+                                                          any());
+    }
+
+    @Test
+    public void getProgramsByChannelIdAndTimeWindowNextPageSuccessfully() {
+        // Arrange
+        String channelId = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
+        String afterId = "c0a4a28f-dccd-4c65-9b80-247377b0c3d9";
+        LocalDateTime from = LocalDateTime.of(2020, Month.JULY, 18, 12, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2020, Month.JULY, 18, 18, 0, 0);
+        LocalDateTime afterStartTime = LocalDateTime.of(2020, Month.JULY, 18, 13, 0, 0);
+
+        // Act
+        when(channelCache.findById(channelId)).thenReturn(Optional.of(mock(Channel.class)));
+        when(programRepository.getProgramsByChannelIdAndTimeWindowAfter(
+                channelId, afterStartTime, from, to, afterStartTime, afterId,
+                PageRequest.of(0, ProgramServiceImpl.DEFAULT_PAGE_LIMIT))).thenReturn(new ArrayList<>());
+
+        List<Program> retrievedProgramsList = programServiceImpl
+                .getProgramsByChannelIdAndTimeWindow(channelId, from, to, afterStartTime, afterId, null,
+                                                     ProgramView.FULL);
+
+        // Assert
+        assertNotNull(retrievedProgramsList);
+        assertEquals(0, retrievedProgramsList.size());
+    }
+
+    @Test
+    public void getProgramGridByChannelIdsSuccessfully() {
+        // Arrange
+        String channelIdOne = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
+        String channelIdTwo = "2ac3b4a5-7d08-4e2b-9a0c-6c7d8e9f0a1b";
+        LocalDateTime from = LocalDateTime.of(2020, Month.JULY, 18, 12, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2020, Month.JULY, 18, 18, 0, 0);
+
+        Channel channelTwo = mock(Channel.class);
+
+        when(channelTwo.getId()).thenReturn(channelIdTwo);
+        when(channelTwo.getName()).thenReturn("Sport TV 2");
+        when(channelTwo.getPosition()).thenReturn(2);
+
+        Program program =
+                Program.Builder.programWith().withChannelId(channelIdTwo).withStartTime(from).withEndTime(to).build();
+
+        // Act
+        when(channelCache.findAllById(new HashSet<>(Arrays.asList(channelIdOne, channelIdTwo))))
+                .thenReturn(Collections.singletonList(channelTwo));
+        when(programRepository
+                     .getProgramsByChannelIdsAndTimeWindow(Collections.singleton(channelIdTwo), from, from, to))
+                .thenReturn(new ArrayList<>(Arrays.asList(program)));
+
+        List<ChannelPrograms> gridList = programServiceImpl
+                .getProgramGrid(from, to, Arrays.asList(channelIdOne, channelIdTwo.toUpperCase(Locale.ROOT)), null,
+                                null, ProgramView.FULL);
+
+        // Assert
+        assertNotNull(gridList);
+        assertEquals(2, gridList.size());
+        assertEquals(channelIdOne, gridList.get(0).getChannelId());
+        assertNull(gridList.get(0).getChannelName());
+        assertEquals(0, gridList.get(0).getPrograms().size());
+        assertEquals(channelIdTwo, gridList.get(1).getChannelId());
+        assertEquals("Sport TV 2", gridList.get(1).getChannelName());
+        assertEquals(Integer.valueOf(2), gridList.get(1).getChannelPosition());
+        assertEquals(Arrays.asList(program), gridList.get(1).getPrograms());
+    }
+
+    @Test
+    public void getProgramGridByPositionRangeSuccessfully() {
+        // Arrange
+        String channelId = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
+        LocalDateTime from = LocalDateTime.of(2020, Month.JULY, 18, 12, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2020, Month.JULY, 18, 18, 0, 0);
+
+        Channel channel = mock(Channel.class);
+
+        when(channel.getId()).thenReturn(channelId);
+        when(channel.getName()).thenReturn("Sport TV 1");
+        when(channel.getPosition()).thenReturn(1);
+
+        Program programOne =
+                Program.Builder.programWith().withChannel(channel).withStartTime(from).withEndTime(to).build();
+        Program programTwo =
+                Program.Builder.programWith().withChannel(channel).withStartTime(to).withEndTime(to.plusHours(1))
+                               .build();
+
+        // Act
+        when(channelRepository.getChannelIdsByPositionRange(0, 10)).thenReturn(Collections.singletonList(channelId));
+        when(programRepository.getProgramsByChannelPositionRangeAndTimeWindow(0, 10, from, from, to))
+                .thenReturn(new ArrayList<>(Arrays.asList(programOne, programTwo)));
+
+        List<ChannelPrograms> gridList = programServiceImpl.getProgramGrid(from, to, null, null, 10, ProgramView.FULL);
+
+        // Assert
+        assertNotNull(gridList);
+        assertEquals(1, gridList.size());
+        assertEquals(channelId, gridList.get(0).getChannelId());
+        assertEquals("Sport TV 1", gridList.get(0).getChannelName());
+        assertEquals(Integer.valueOf(1), gridList.get(0).getChannelPosition());
+        assertEquals(Arrays.asList(programOne, programTwo), gridList.get(0).getPrograms());
+    }
+
+    @Test
+    public void getProgramSummaryGridByPositionRangeSuccessfully() {
+        // Arrange
+        String channelId = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
+        LocalDateTime from = LocalDateTime.of(2020, Month.JULY, 18, 12, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2020, Month.JULY, 18, 18, 0, 0);
+
+        Channel channel = mock(Channel.class);
+
+        when(channel.getId()).thenReturn(channelId);
+        when(channel.getName()).thenReturn("Sport TV 1");
+        when(channel.getPosition()).thenReturn(1);
+
+        Program summaryOne = new Program("c0a4a28f-dccd-4c65-9b80-247377b0c3d9", channelId, "Morning News", from,
+                                         from.plusHours(1));
+        Program summaryTwo = new Program("d1b5b39a-edde-4d76-8c91-358488c1d4ea", channelId, "Afternoon News",
+                                         from.plusHours(1), to);
+
+        // Act
+        when(channelRepository.getChannelIdsByPositionRange(0, 10)).thenReturn(Collections.singletonList(channelId));
+        when(programRepository.getProgramSummariesByChannelPositionRangeAndTimeWindow(0, 10, from, from, to))
+                .thenReturn(new ArrayList<>(Arrays.asList(summaryOne, summaryTwo)));
+        when(channelCache.findById(channelId)).thenReturn(Optional.of(channel));
+
+        List<ChannelPrograms> gridList =
+                programServiceImpl.getProgramGrid(from, to, null, null, 10, ProgramView.SUMMARY);
+
+        // Assert
+        assertEquals(1, gridList.size());
+        assertEquals(channelId, gridList.get(0).getChannelId());
+        assertEquals("Sport TV 1", gridList.get(0).getChannelName());
+        assertEquals(Integer.valueOf(1), gridList.get(0).getChannelPosition());
+        assertEquals(Arrays.asList(summaryOne, summaryTwo), gridList.get(0).getPrograms());
+        verify(channelCache, times(1)).findById(channelId);
+        verify(programRepository, never()).getProgramsByChannelPositionRangeAndTimeWindow(anyInt(), anyInt(), any(),
+                                                                                         any(), any());
+    }
+
+    @Test(expected = BusinessException.class)
+    public void getProgramGridWithChannelIdsAndPositionRangeFails() {
+        // Arrange
+        LocalDateTime from = LocalDateTime.of(2020, Month.JULY, 18, 12, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2020, Month.JULY, 18, 18, 0, 0);
+
+        // Act
+        try {
+            programServiceImpl
+                    .getProgramGrid(from, to, Arrays.asList("06d6232c-dca4-493d-86fb-f82f057dc5d5"), 1, 10,
+                                    ProgramView.FULL);
+        } catch (BusinessException e) {
+            // Assert
+            String message = "The grid can be filtered by channel ids or by a position range, not both!";
+            assertEquals(message, e.getMessage());
+            throw e;
+        }
+
+        fail("Business exception of grid filtered by channel ids and position range was not thrown!");
+    }
+
+    @Test(expected = BusinessException.class)
+    public void getProgramGridWithFromPositionAfterToPositionFails() {
+        // Arrange
+        LocalDateTime from = LocalDateTime.of(2020, Month.JULY, 18, 12, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2020, Month.JULY, 18, 18, 0, 0);
+
+        // Act
+        try {
+            programServiceImpl.getProgramGrid(from, to, null, 10, 1, ProgramView.FULL);
+        } catch (BusinessException e) {
+            // Assert
+            String message = "The from position must not be after the to position!";
+            assertEquals(message, e.getMessage());
+            throw e;
+        }
+
+        fail("Business exception of from position after to position was not thrown!");
+    }
+
+    @Test
+    public void getNowAndNextSuccessfully() {
+        // Arrange
+        String channelIdOne = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
+        String channelIdTwo = "2ac3b4a5-7d08-4e2b-9a0c-6c7d8e9f0a1b";
+        LocalDateTime time = LocalDateTime.of(2020, Month.JULY, 18, 12, 30, 0);
+
+        ScheduleSlot nowSlot = new ScheduleSlot("1", channelIdOne, LocalDateTime.of(2020, Month.JULY, 18, 12, 0, 0),
+                                                LocalDateTime.of(2020, Month.JULY, 18, 13, 0, 0));
+        ScheduleSlot nextSlot = new ScheduleSlot("2", channelIdOne, LocalDateTime.of(2020, Month.JULY, 18, 13, 0, 0),
+                                                 LocalDateTime.of(2020, Month.JULY, 18, 14, 0, 0));
+
+        Program now = mock(Program.class);
+        Program next = mock(Program.class);
+
+        when(now.getId()).thenReturn("1");
+        when(next.getId()).thenReturn("2");
+
+        // Act
+        when(channelRepository.getAllChannelIdsOrderedByPosition())
+                .thenReturn(new ArrayList<>(Arrays.asList(channelIdOne, channelIdTwo)));
+        when(programScheduleIndex.findSlotAt(channelIdOne, time)).thenReturn(Optional.of(nowSlot));
+        when(programScheduleIndex.findNextSlot(channelIdOne, time)).thenReturn(Optional.of(nextSlot));
+        when(programScheduleIndex.findSlotAt(channelIdTwo, time)).thenReturn(Optional.empty());
+        when(programScheduleIndex.findNextSlot(channelIdTwo, time)).thenReturn(Optional.empty());
+        when(programRepository.getProgramsByIds(Arrays.asList("1", "2"))).thenReturn(Arrays.asList(now, next));
+
+        List<ChannelNowAndNext> nowAndNextList = programServiceImpl.getNowAndNext(time);
+
+        // Assert
+        assertNotNull(nowAndNextList);
+        assertEquals(2, nowAndNextList.size());
+        assertEquals(channelIdOne, nowAndNextList.get(0).getChannelId());
+        assertEquals(now, nowAndNextList.get(0).getNow());
+        assertEquals(next, nowAndNextList.get(0).getNext());
+        assertEquals(channelIdTwo, nowAndNextList.get(1).getChannelId());
+        assertNull(nowAndNextList.get(1).getNow());
+        assertNull(nowAndNextList.get(1).getNext());
+    }
+
+    @Test(expected = BusinessException.class)
+    public void getProgramsByChannelIdAndTimeWindowWithoutToFails() {
+        // Arrange
+        String channelId = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
+        LocalDateTime from = LocalDateTime.of(2020, Month.JULY, 18, 12, 0, 0);
+
+        // Act
+        try {
+            programServiceImpl.getProgramsByChannelIdAndTimeWindow(channelId, from, null, null, null, null,
+                                                                   ProgramView.FULL);
+        } catch (BusinessException be) {
+            String exceptionMessage = "The time window needs to have a from and a to time!";
+            assertEquals(exceptionMessage, be.getMessage());
+            throw be;
+        }
+
+        fail("Business exception when listing programs without a to time was not thrown!");
+    }
+
+    @Test(expected = BusinessException.class)
+    public void getProgramsByChannelIdAndTimeWindowWithFromAfterToFails() {
+        // Arrange
+        String channelId = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
+        LocalDateTime from = LocalDateTime.of(2020, Month.JULY, 18, 18, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2020, Month.JULY, 18, 12, 0, 0);
+
+        // Act
+        try {
+            programServiceImpl.getProgramsByChannelIdAndTimeWindow(channelId, from, to, null, null, null,
+                                                                   ProgramView.FULL);
+        } catch (BusinessException be) {
+            String exceptionMessage = "The from time must be before the to time!";
+            assertEquals(exceptionMessage, be.getMessage());
+            throw be;
+        }
+
+        fail("Business exception when listing programs with from after to was not thrown!");
+    }
+
+    @Test(expected = BusinessException.class)
+    public void getProgramsByChannelIdAndTimeWindowWithIncompleteCursorFails() {
+        // Arrange
+        String channelId = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
+        LocalDateTime from = LocalDateTime.of(2020, Month.JULY, 18, 12, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2020, Month.JULY, 18, 18, 0, 0);
+        LocalDateTime afterStartTime = LocalDateTime.of(2020, Month.JULY, 18, 13, 0, 0);
+
+        // Act
+        try {
+            programServiceImpl.getProgramsByChannelIdAndTimeWindow(channelId, from, to, afterStartTime, null, null,
+                                                                   ProgramView.FULL);
+        } catch (BusinessException be) {
+            String exceptionMessage = "The page cursor needs to have both a start time and an id!";
+            assertEquals(exceptionMessage, be.getMessage());
+            throw be;
+        }
+
+        fail("Business exception when listing programs with an incomplete cursor was not thrown!");
+    }
+
+    @Test(expected = BusinessException.class)
+    public void getProgramsByChannelIdAndTimeWindowWithInvalidLimitFails() {
+        // Arrange
+        String channelId = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
+        LocalDateTime from = LocalDateTime.of(2020, Month.JULY, 18, 12, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2020, Month.JULY, 18, 18, 0, 0);
+
+        // Act
+        try {
+            programServiceImpl.getProgramsByChannelIdAndTimeWindow(channelId, from, to, null, null, 0,
+                                                                   ProgramView.FULL);
+        } catch (BusinessException be) {
+            String exceptionMessage = "The page limit must be between 1 and " + ProgramServiceImpl.MAX_PAGE_LIMIT + "!";
+            assertEquals(exceptionMessage, be.getMessage());
+            throw be;
+        }
+
+        fail("Business exception when listing programs with an invalid limit was not thrown!");
+    }
+
     @Test
     public void getProgramByIdSuccessfully() {
         // Arrange
+        String id = "c0a4a28f-dccd-4c65-9b80-247377b0c3d9";
         String channelId = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
         String imageUrl = "http://cycloid.com/channel1-image/";
         String title = "Best EPL Goals";
@@ -556,7 +1186,7 @@ public class ProgramServiceImplTests {
         // Act
         when(programRepository.findById(anyString())).thenReturn(Optional.ofNullable(program));
 
-        Program retrievedProgram = programServiceImpl.getProgramById(anyString());
+        Program retrievedProgram = programServiceImpl.getProgramById(id);
 
         // Assert
         assertNotNull(retrievedProgram);
@@ -588,16 +1218,249 @@ public class ProgramServiceImplTests {
         fail("Resource not found exception when program does not exist was not thrown!");
     }
 
+    @Test(expected = ResourceNotFoundException.class)
+    public void getProgramByIdWithMalformedIdFails() {
+        // Arrange
+        String id = "not-a-program-id";
+
+        // Act
+        try {
+            programServiceImpl.getProgramById(id);
+        } catch (ResourceNotFoundException re) {
+            // Assert
+            String exceptionMessage = "No program found for this id: " + id;
+            assertEquals(exceptionMessage, re.getMessageKey());
+            verify(programRepository, never()).findById(anyString());
+            throw re;
+        }
+
+        fail("Resource not found exception when program id is malformed was not thrown!");
+    }
+
+    @Test
+    public void getProgramsByIdsReturnsFoundProgramsAndMissingIds() {
+        // Arrange
+        List<String> ids = new ArrayList<>();
+
+        for (int i = 0; i < ProgramServiceImpl.LOOKUP_CHUNK_SIZE + 1; i++) {
+            ids.add(programId(i));
+        }
+
+        ids.add(programId(0).toUpperCase(Locale.ROOT));
+        ids.add("program-0");
+
+        String lastId = programId(ProgramServiceImpl.LOOKUP_CHUNK_SIZE);
+
+        Program firstProgram = mock(Program.class);
+        Program lastProgram = mock(Program.class);
+
+        when(firstProgram.getId()).thenReturn(programId(0));
+        when(lastProgram.getId()).thenReturn(lastId);
+        when(programRepository.getProgramsByIds(ids.subList(0, ProgramServiceImpl.LOOKUP_CHUNK_SIZE)))
+                .thenReturn(Collections.singletonList(firstProgram));
+        when(programRepository.getProgramsByIds(Collections.singletonList(lastId)))
+                .thenReturn(Collections.singletonList(lastProgram));
+
+        // Act
+        ProgramLookupResult lookupResult = programServiceImpl.getProgramsByIds(ids);
+
+        // Assert
+        assertEquals(Arrays.asList(firstProgram, lastProgram), lookupResult.getPrograms());
+        assertEquals(ProgramServiceImpl.LOOKUP_CHUNK_SIZE, lookupResult.getMissingIds().size());
+        assertEquals(programId(1), lookupResult.getMissingIds().get(0));
+        assertEquals("program-0", lookupResult.getMissingIds().get(ProgramServiceImpl.LOOKUP_CHUNK_SIZE - 1));
+        verify(programRepository, times(2)).getProgramsByIds(any());
+    }
+
+    @Test(expected = BusinessException.class)
+    public void getProgramsByIdsWithTooManyIdsFails() {
+        // Arrange
+        List<String> ids = new ArrayList<>();
+
+        for (int i = 0; i <= ProgramServiceImpl.MAX_LOOKUP_SIZE; i++) {
+            ids.add("program-" + i);
+        }
+
+        // Act
+        try {
+            programServiceImpl.getProgramsByIds(ids);
+        } catch (BusinessException be) {
+            // Assert
+            String exceptionMessage =
+                    "A lookup can have at most " + ProgramServiceImpl.MAX_LOOKUP_SIZE + " program ids!";
+            assertEquals(exceptionMessage, be.getMessageKey());
+            verify(programRepository, never()).getProgramsByIds(any());
+            throw be;
+        }
+
+        fail("Business exception when looking up too many programs was not thrown!");
+    }
+
     @Test
     public void deleteProgramByIdSuccessfully() {
         // Arrange
-        String id = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
+        String id = "c0a4a28f-dccd-4c65-9b80-247377b0c3d9";
+        String channelId = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
+        List<String> ids = Collections.singletonList(id);
+
+        when(programRepository.getScheduleSlotById(id)).thenReturn(Optional.of(scheduleSlot(id, channelId)));
+        when(programRepository.getProgramIdsByIdsAndChannelIds(ids, Collections.singleton(channelId)))
+                .thenReturn(ids);
+        when(programRepository.deleteProgramsByIds(ids)).thenReturn(1);
 
         // Act
         programServiceImpl.deleteProgramById(id);
 
         // Assert
-        verify(programRepository, times(1)).deleteById(id);
+        verify(programRepository, times(1)).deleteProgramsByIds(ids);
+        verify(programScheduleIndex, times(1)).remove(id);
+        verify(channelLocks, times(1)).withLocks(eq(Collections.singleton(channelId)), any());
+    }
+
+    @Test
+    public void deleteProgramByIdOfProgramMovedToAnotherChannelDeletesItUnderTheNewChannelLock() {
+        // Arrange
+        String id = "c0a4a28f-dccd-4c65-9b80-247377b0c3d9";
+        String channelId = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
+        String movedChannelId = "0d8d1a97-bec1-4d23-91b6-e164f6c635c6";
+        List<String> ids = Collections.singletonList(id);
+
+        when(programRepository.getScheduleSlotById(id))
+                .thenReturn(Optional.of(scheduleSlot(id, channelId)), Optional.of(scheduleSlot(id, movedChannelId)));
+        when(programRepository.getProgramIdsByIdsAndChannelIds(ids, Collections.singleton(channelId)))
+                .thenReturn(Collections.emptyList());
+        when(programRepository.getProgramIdsByIdsAndChannelIds(ids, Collections.singleton(movedChannelId)))
+                .thenReturn(ids);
+        when(programRepository.deleteProgramsByIds(ids)).thenReturn(1);
+
+        // Act
+        programServiceImpl.deleteProgramById(id);
+
+        // Assert
+        verify(programRepository, times(1)).deleteProgramsByIds(ids);
+        verify(programScheduleIndex, times(1)).remove(id);
+        verify(channelLocks, times(1)).withLocks(eq(Collections.singleton(movedChannelId)), any());
+    }
+
+    @Test(expected = EmptyResultDataAccessException.class)
+    public void deleteProgramByIdOfNonExistingProgramFails() {
+        // Arrange
+        String id = "c0a4a28f-dccd-4c65-9b80-247377b0c3d9";
+
+        when(programRepository.getScheduleSlotById(id)).thenReturn(Optional.empty());
+
+        // Act
+        try {
+            programServiceImpl.deleteProgramById(id);
+        } catch (EmptyResultDataAccessException e) {
+            // Assert
+            assertEquals("No class epg.model.Program entity with id " + id + " exists!", e.getMessage());
+            verify(programRepository, never()).deleteProgramsByIds(any());
+            throw e;
+        }
+
+        fail("Empty result exception when there is no program to delete was not thrown!");
+    }
+
+    @Test
+    public void deleteProgramsByChannelIdAndTimeWindowDeletesInChunks() {
+        // Arrange
+        String channelId = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
+        LocalDateTime from = LocalDateTime.of(2020, Month.JULY, 18, 0, 0, 0);
+        LocalDateTime to = from.plusDays(1);
+
+        List<ScheduleSlot> firstChunk = new ArrayList<>();
+        List<String> firstChunkIds = new ArrayList<>();
+
+        for (int i = 0; i < ProgramServiceImpl.DELETE_CHUNK_SIZE; i++) {
+            firstChunk.add(scheduleSlot("program-" + i, channelId));
+            firstChunkIds.add("program-" + i);
+        }
+
+        String lastId = "program-" + ProgramServiceImpl.DELETE_CHUNK_SIZE;
+        List<ScheduleSlot> lastChunk = Collections.singletonList(scheduleSlot(lastId, channelId));
+        List<String> lastChunkIds = Collections.singletonList(lastId);
+
+        when(programRepository.getScheduleSlotsByChannelIdAndStartTimeWindow(eq(channelId), eq(from), eq(to), any()))
+                .thenReturn(firstChunk, lastChunk);
+        when(programRepository.getProgramIdsByIdsAndChannelIds(firstChunkIds, Collections.singleton(channelId)))
+                .thenReturn(firstChunkIds);
+        when(programRepository.getProgramIdsByIdsAndChannelIds(lastChunkIds, Collections.singleton(channelId)))
+                .thenReturn(lastChunkIds);
+        when(programRepository.deleteProgramsByIds(firstChunkIds)).thenReturn(firstChunkIds.size());
+        when(programRepository.deleteProgramsByIds(lastChunkIds)).thenReturn(lastChunkIds.size());
+
+        // Act
+        ProgramDeleteResult deleteResult =
+                programServiceImpl.deleteProgramsByChannelIdAndTimeWindow(channelId, from, to);
+
+        // Assert
+        assertEquals(ProgramServiceImpl.DELETE_CHUNK_SIZE + 1, deleteResult.getDeleted());
+        verify(programRepository, times(2)).getScheduleSlotsByChannelIdAndStartTimeWindow(
+                eq(channelId), eq(from), eq(to), eq(PageRequest.of(0, ProgramServiceImpl.DELETE_CHUNK_SIZE)));
+        verify(programScheduleIndex, times(ProgramServiceImpl.DELETE_CHUNK_SIZE + 1)).remove(anyString());
+    }
+
+    @Test
+    public void deleteProgramsEndingBeforeDeletesInBatchesOfTheGivenSize() {
+        // Arrange
+        LocalDateTime before = LocalDateTime.of(2020, Month.JULY, 18, 0, 0, 0);
+        String channelIdOne = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
+        String channelIdTwo = "0d8d1a97-bec1-4d23-91b6-e164f6c635c6";
+
+        List<ScheduleSlot> firstBatch =
+                Arrays.asList(scheduleSlot("program-1", channelIdOne), scheduleSlot("program-2", channelIdTwo));
+        List<ScheduleSlot> lastBatch = Collections.singletonList(scheduleSlot("program-3", channelIdOne));
+        List<String> firstBatchIds = Arrays.asList("program-1", "program-2");
+        List<String> lastBatchIds = Collections.singletonList("program-3");
+
+        when(programRepository.getScheduleSlotsEndingBefore(before, PageRequest.of(0, 2)))
+                .thenReturn(firstBatch, lastBatch);
+        when(programRepository.getProgramIdsByIdsAndChannelIds(
+                firstBatchIds, new HashSet<>(Arrays.asList(channelIdOne, channelIdTwo)))).thenReturn(firstBatchIds);
+        when(programRepository.getProgramIdsByIdsAndChannelIds(lastBatchIds, Collections.singleton(channelIdOne)))
+                .thenReturn(lastBatchIds);
+        when(programRepository.deleteProgramsByIds(firstBatchIds)).thenReturn(2);
+        when(programRepository.deleteProgramsByIds(lastBatchIds)).thenReturn(1);
+
+        // Act
+        ProgramDeleteResult deleteResult =
+                programServiceImpl.deleteProgramsEndingBefore(before, 2, Duration.ofMillis(1));
+
+        // Assert
+        assertEquals(3, deleteResult.getDeleted());
+        verify(programScheduleIndex, times(1)).remove("program-1");
+        verify(programScheduleIndex, times(1)).remove("program-2");
+        verify(programScheduleIndex, times(1)).remove("program-3");
+    }
+
+    @Test
+    public void deleteProgramsEndingBeforeWithoutMatchesDeletesNothing() {
+        // Arrange
+        LocalDateTime before = LocalDateTime.of(2020, Month.JULY, 18, 0, 0, 0);
+
+        when(programRepository.getScheduleSlotsEndingBefore(eq(before), any())).thenReturn(Collections.emptyList());
+
+        // Act
+        ProgramDeleteResult deleteResult = programServiceImpl.deleteProgramsEndingBefore(before);
+
+        // Assert
+        assertEquals(0, deleteResult.getDeleted());
+        verify(programRepository, never()).deleteProgramsByIds(any());
+    }
+
+    @Test(expected = BusinessException.class)
+    public void deleteProgramsEndingBeforeWithoutBeforeTimeFails() {
+        // Act
+        try {
+            programServiceImpl.deleteProgramsEndingBefore(null);
+        } catch (BusinessException be) {
+            // Assert
+            assertEquals("The delete needs to have a before time!", be.getMessageKey());
+            throw be;
+        }
+
+        fail("Business exception when deleting programs without a before time was not thrown!");
     }
 
     @Test(expected = TechnicalException.class)
@@ -624,6 +1487,7 @@ public class ProgramServiceImplTests {
     @Test
     public void updateProgramByIdSuccessfully() {
         // Arrange
+        String id = "c0a4a28f-dccd-4c65-9b80-247377b0c3d9";
         String channelId = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
         String imageUrl = "http://cycloid.com/channel1-image/";
         String title = "Best EPL Goals";
@@ -650,9 +1514,9 @@ public class ProgramServiceImplTests {
 
         // Act
         when(programRepository.findById(anyString())).thenReturn(Optional.ofNullable(programCreated));
-        when(channelRepository.findById(anyString())).thenReturn(Optional.of(new Channel()));
+        when(channelCache.findById(anyString())).thenReturn(Optional.of(new Channel()));
 
-        Program programUpdated = programServiceImpl.updateProgramById(anyString(), programUpdate);
+        Program programUpdated = programServiceImpl.updateProgramById(id, programUpdate);
 
         // Assert
         assertNotNull(programUpdated);
@@ -667,6 +1531,7 @@ public class ProgramServiceImplTests {
     @Test
     public void updateProgramByIdWithNoChangesSuccessfully() {
         // Arrange
+        String id = "c0a4a28f-dccd-4c65-9b80-247377b0c3d9";
         String channelId = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
         String imageUrl = "http://cycloid.com/channel1-image/";
         String title = "Best EPL Goals";
@@ -681,7 +1546,7 @@ public class ProgramServiceImplTests {
         // Act
         when(programRepository.findById(anyString())).thenReturn(Optional.ofNullable(programCreated));
 
-        Program programUpdated = programServiceImpl.updateProgramById(anyString(), programCreated);
+        Program programUpdated = programServiceImpl.updateProgramById(id, programCreated);
 
         // Assert
         assertNotNull(programUpdated);
@@ -723,6 +1588,7 @@ public class ProgramServiceImplTests {
     @Test
     public void updateProgramByIdUpdateOnlyChannelIdSuccessfully() {
         // Arrange
+        String id = "c0a4a28f-dccd-4c65-9b80-247377b0c3d9";
         String channelId = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
         String imageUrl = "http://cycloid.com/channel1-image/";
         String title = "Best EPL Goals";
@@ -740,9 +1606,9 @@ public class ProgramServiceImplTests {
 
         // Act
         when(programRepository.findById(anyString())).thenReturn(Optional.ofNullable(programCreated));
-        when(channelRepository.findById(anyString())).thenReturn(Optional.of(new Channel()));
+        when(channelCache.findById(anyString())).thenReturn(Optional.of(new Channel()));
 
-        Program programUpdated = programServiceImpl.updateProgramById(anyString(), programUpdate);
+        Program programUpdated = programServiceImpl.updateProgramById(id, programUpdate);
 
         // Assert
         assertNotNull(programUpdated);
@@ -757,6 +1623,7 @@ public class ProgramServiceImplTests {
     @Test
     public void updateProgramByIdUpdateOnlyImageUrlSuccessfully() {
         // Arrange
+        String id = "c0a4a28f-dccd-4c65-9b80-247377b0c3d9";
         String channelId = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
         String imageUrl = "http://cycloid.com/channel1-image/";
         String title = "Best EPL Goals";
@@ -774,9 +1641,9 @@ public class ProgramServiceImplTests {
 
         // Act
         when(programRepository.findById(anyString())).thenReturn(Optional.ofNullable(programCreated));
-        when(channelRepository.findById(anyString())).thenReturn(Optional.of(new Channel()));
+        when(channelCache.findById(anyString())).thenReturn(Optional.of(new Channel()));
 
-        Program programUpdated = programServiceImpl.updateProgramById(anyString(), programUpdate);
+        Program programUpdated = programServiceImpl.updateProgramById(id, programUpdate);
 
         // Assert
         assertNotNull(programUpdated);
@@ -791,6 +1658,7 @@ public class ProgramServiceImplTests {
     @Test
     public void updateProgramByIdUpdateOnlyTitleSuccessfully() {
         // Arrange
+        String id = "c0a4a28f-dccd-4c65-9b80-247377b0c3d9";
         String channelId = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
         String imageUrl = "http://cycloid.com/channel1-image/";
         String title = "Best EPL Goals";
@@ -808,9 +1676,9 @@ public class ProgramServiceImplTests {
 
         // Act
         when(programRepository.findById(anyString())).thenReturn(Optional.ofNullable(programCreated));
-        when(channelRepository.findById(anyString())).thenReturn(Optional.of(new Channel()));
+        when(channelCache.findById(anyString())).thenReturn(Optional.of(new Channel()));
 
-        Program programUpdated = programServiceImpl.updateProgramById(anyString(), programUpdate);
+        Program programUpdated = programServiceImpl.updateProgramById(id, programUpdate);
 
         // Assert
         assertNotNull(programUpdated);
@@ -822,9 +1690,48 @@ public class ProgramServiceImplTests {
         assertEquals(endTime, programUpdated.getEndTime());
     }
 
+    @Test
+    public void updateProgramByIdOfProgramMovedToAnotherChannelLocksItsNewChannel() {
+        // Arrange
+        String id = "c0a4a28f-dccd-4c65-9b80-247377b0c3d9";
+        String channelId = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
+        String movedChannelId = "0d8d1a97-bec1-4d23-91b6-e164f6c635c6";
+        String imageUrl = "http://cycloid.com/channel1-image/";
+        String title = "Best EPL Goals";
+        String description = "Review the amazing goals scored in the last English Premier League season!";
+        LocalDateTime startTime = LocalDateTime.of(2020, Month.JULY, 18, 11, 45, 47);
+        LocalDateTime endTime = LocalDateTime.of(2020, Month.JULY, 18, 12, 45, 47);
+
+        Program programCreated =
+                Program.Builder.programWith().withChannelId(channelId).withImageUrl(imageUrl).withTitle(title)
+                               .withDescription(description).withStartTime(startTime).withEndTime(endTime).build();
+        Program programMoved =
+                Program.Builder.programWith().withChannelId(movedChannelId).withImageUrl(imageUrl).withTitle(title)
+                               .withDescription(description).withStartTime(startTime).withEndTime(endTime).build();
+
+        String titleUpdate = "Best Bundesliga Goals";
+
+        Program programUpdate = Program.Builder.programWith().withTitle(titleUpdate).build();
+
+        // Act
+        when(programRepository.findById(id)).thenReturn(Optional.of(programCreated), Optional.of(programMoved));
+        when(channelCache.findById(movedChannelId)).thenReturn(Optional.of(new Channel()));
+
+        Program programUpdated = programServiceImpl.updateProgramById(id, programUpdate);
+
+        // Assert
+        assertEquals(movedChannelId, programUpdated.getChannelId());
+        assertEquals(titleUpdate, programUpdated.getTitle());
+        assertEquals(title, programCreated.getTitle());
+        verify(channelLocks, times(1)).withLocks(eq(Arrays.asList(movedChannelId, movedChannelId)), any());
+        verify(programRepository, times(1)).save(programMoved);
+        verify(programRepository, never()).save(programCreated);
+    }
+
     @Test
     public void updateProgramByIdUpdateOnlyDescriptionSuccessfully() {
         // Arrange
+        String id = "c0a4a28f-dccd-4c65-9b80-247377b0c3d9";
         String channelId = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
         String imageUrl = "http://cycloid.com/channel1-image/";
         String title = "Best EPL Goals";
@@ -842,9 +1749,9 @@ public class ProgramServiceImplTests {
 
         // Act
         when(programRepository.findById(anyString())).thenReturn(Optional.ofNullable(programCreated));
-        when(channelRepository.findById(anyString())).thenReturn(Optional.of(new Channel()));
+        when(channelCache.findById(anyString())).thenReturn(Optional.of(new Channel()));
 
-        Program programUpdated = programServiceImpl.updateProgramById(anyString(), programUpdate);
+        Program programUpdated = programServiceImpl.updateProgramById(id, programUpdate);
 
         // Assert
         assertNotNull(programUpdated);
@@ -859,6 +1766,7 @@ public class ProgramServiceImplTests {
     @Test
     public void updateProgramByIdUpdateOnlyStartTimeSuccessfully() {
         // Arrange
+        String id = "c0a4a28f-dccd-4c65-9b80-247377b0c3d9";
         String channelId = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
         String imageUrl = "http://cycloid.com/channel1-image/";
         String title = "Best EPL Goals";
@@ -876,9 +1784,9 @@ public class ProgramServiceImplTests {
 
         // Act
         when(programRepository.findById(anyString())).thenReturn(Optional.ofNullable(programCreated));
-        when(channelRepository.findById(anyString())).thenReturn(Optional.of(new Channel()));
+        when(channelCache.findById(anyString())).thenReturn(Optional.of(new Channel()));
 
-        Program programUpdated = programServiceImpl.updateProgramById(anyString(), programUpdate);
+        Program programUpdated = programServiceImpl.updateProgramById(id, programUpdate);
 
         // Assert
         assertNotNull(programUpdated);
@@ -893,6 +1801,7 @@ public class ProgramServiceImplTests {
     @Test
     public void updateProgramByIdUpdateOnlyEndTimeSuccessfully() {
         // Arrange
+        String id = "c0a4a28f-dccd-4c65-9b80-247377b0c3d9";
         String channelId = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
         String imageUrl = "http://cycloid.com/channel1-image/";
         String title = "Best EPL Goals";
@@ -910,9 +1819,9 @@ public class ProgramServiceImplTests {
 
         // Act
         when(programRepository.findById(anyString())).thenReturn(Optional.ofNullable(programCreated));
-        when(channelRepository.findById(anyString())).thenReturn(Optional.of(new Channel()));
+        when(channelCache.findById(anyString())).thenReturn(Optional.of(new Channel()));
 
-        Program programUpdated = programServiceImpl.updateProgramById(anyString(), programUpdate);
+        Program programUpdated = programServiceImpl.updateProgramById(id, programUpdate);
 
         // Assert
         assertNotNull(programUpdated);
@@ -927,6 +1836,7 @@ public class ProgramServiceImplTests {
     @Test(expected = BusinessException.class)
     public void updateProgramByIdStartTimeAfterEndTimeFails() {
         // Arrange
+        String id = "c0a4a28f-dccd-4c65-9b80-247377b0c3d9";
         String channelId = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
         String imageUrl = "http://cycloid.com/channel1-image/";
         String title = "Best EPL Goals";
@@ -946,7 +1856,7 @@ public class ProgramServiceImplTests {
         when(programRepository.findById(anyString())).thenReturn(Optional.ofNullable(programCreated));
 
         try {
-            programServiceImpl.updateProgramById(anyString(), programUpdate);
+            programServiceImpl.updateProgramById(id, programUpdate);
         } catch (BusinessException be) {
             String exceptionMessage = "The start time must be before the end time!";
             assertEquals(exceptionMessage, be.getMessage());
@@ -959,6 +1869,7 @@ public class ProgramServiceImplTests {
     @Test(expected = BusinessException.class)
     public void updateProgramByIdStartTimeEqualEndTimeFails() {
         // Arrange
+        String id = "c0a4a28f-dccd-4c65-9b80-247377b0c3d9";
         String channelId = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
         String imageUrl = "http://cycloid.com/channel1-image/";
         String title = "Best EPL Goals";
@@ -978,7 +1889,7 @@ public class ProgramServiceImplTests {
         when(programRepository.findById(anyString())).thenReturn(Optional.ofNullable(programCreated));
 
         try {
-            programServiceImpl.updateProgramById(anyString(), programUpdate);
+            programServiceImpl.updateProgramById(id, programUpdate);
         } catch (BusinessException be) {
             String exceptionMessage = "The start time and the end time are the same!";
             assertEquals(exceptionMessage, be.getMessage());
@@ -991,6 +1902,7 @@ public class ProgramServiceImplTests {
     @Test(expected = ResourceNotFoundException.class)
     public void updateProgramByIdNonExistingChannelIdFails() {
         // Arrange
+        String id = "c0a4a28f-dccd-4c65-9b80-247377b0c3d9";
         String channelId = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
         String imageUrl = "http://cycloid.com/channel1-image/";
         String title = "Best EPL Goals";
@@ -1008,12 +1920,12 @@ public class ProgramServiceImplTests {
 
         // Act
         when(programRepository.findById(anyString())).thenReturn(Optional.ofNullable(programCreated));
-        when(channelRepository.findById(anyString()))
+        when(channelCache.findById(anyString()))
                 .thenThrow(new ResourceNotFoundException("Channel with id " + channelIdUpdate + " not found!",
                                                          "Id: " + channelIdUpdate));
 
         try {
-            programServiceImpl.updateProgramById(anyString(), programUpdate);
+            programServiceImpl.updateProgramById(id, programUpdate);
         } catch (ResourceNotFoundException re) {
             String exceptionMessage = "Channel with id " + channelIdUpdate + " not found!";
             assertEquals(exceptionMessage, re.getMessageKey());
@@ -1026,6 +1938,7 @@ public class ProgramServiceImplTests {
     @Test(expected = BusinessException.class)
     public void updateProgramByIdThatOverlapsExistingProgramFromSameChannelFails() {
         // Arrange
+        String id = "c0a4a28f-dccd-4c65-9b80-247377b0c3d9";
         String channelId = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
         String imageUrlProgramOne = "http://cycloid.com/channel1-image/";
         String titleProgramOne = "Best EPL Goals";
@@ -1063,12 +1976,12 @@ public class ProgramServiceImplTests {
 
         // Act
         when(programRepository.findById(anyString())).thenReturn(Optional.ofNullable(programOneCreated));
-        when(channelRepository.findById(anyString())).thenReturn(Optional.of(new Channel()));
-        when(programRepository.getProgramByChannelIdAndTime(channelId, startTimeProgramOne, endTimeProgramOneUpdate))
-                .thenReturn(programTwoCreated);
+        when(channelCache.findById(anyString())).thenReturn(Optional.of(new Channel()));
+        when(programScheduleIndex.findOverlappingSlot(channelId, startTimeProgramOne, endTimeProgramOneUpdate, null))
+                .thenReturn(Optional.of(ScheduleSlot.of(programTwoCreated)));
 
         try {
-            programServiceImpl.updateProgramById(anyString(), programUpdate);
+            programServiceImpl.updateProgramById(id, programUpdate);
         } catch (BusinessException be) {
             String exceptionMessage =
                     "There is already a program starting at " + startTimeProgramTwo + " and ending at " +
@@ -1079,4 +1992,14 @@ public class ProgramServiceImplTests {
 
         fail("Business exception for program overlapping existing program was not thrown!");
     }
+
+    private static ScheduleSlot scheduleSlot(String id, String channelId) {
+        LocalDateTime startTime = LocalDateTime.of(2020, Month.JULY, 17, 10, 0, 0);
+
+        return new ScheduleSlot(id, channelId, startTime, startTime.plusHours(1));
+    }
+
+    private static String programId(int number) {
+        return String.format("00000000-0000-4000-8000-%012d", number);
+    }
 }
@@ -0,0 +1,68 @@
+package epg.service.program;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import epg.model.Program;
+import epg.repository.ProgramRepository;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ProgramStreamExporterTests {
+
+    private static final String CHANNEL_ID = "06d6232c-dca4-493d-86fb-f82f057dc5d5";
+
+    @Mock
+    private ProgramRepository programRepository;
+
+    private ProgramStreamExporter programStreamExporter;
+
+    @Before
+    public void setUp() {
+        programStreamExporter =
+                new ProgramStreamExporter(programRepository, new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    public void exportProgramsFlushesOncePerFlushInterval() throws Exception {
+        // Arrange
+        LocalDateTime startTime = LocalDateTime.of(2020, Month.JULY, 18, 0, 0, 0);
+        int programs = ProgramStreamExporter.FLUSH_INTERVAL * 2;
+
+        FlushCountingOutputStream outputStream = new FlushCountingOutputStream();
+
+        // Act
+        when(programRepository.streamAllProgramsByChannelId(CHANNEL_ID)).thenReturn(
+                IntStream.range(0, programs).mapToObj(
+                        i -> new Program(String.valueOf(i), CHANNEL_ID, "Best EPL Goals", startTime.plusHours(i),
+                                         startTime.plusHours(i + 1))));
+
+        programStreamExporter.exportPrograms(CHANNEL_ID, outputStream, false);
+
+        // Assert
+        assertEquals(programs, outputStream.toString(StandardCharsets.UTF_8.name()).split("\n").length);
+        // One flush per interval, then the final flush and the one on closing the generator.
+        assertEquals(programs / ProgramStreamExporter.FLUSH_INTERVAL + 2, outputStream.flushes);
+    }
+
+    private static class FlushCountingOutputStream extends ByteArrayOutputStream {
+
+        private int flushes;
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+    }
+}
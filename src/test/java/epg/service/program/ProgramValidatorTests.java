@@ -0,0 +1,87 @@
+package epg.service.program;
+
+import epg.exception.BusinessException;
+import epg.model.Program;
+import epg.validation.ValidationResult;
+import epg.validation.Violation;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class ProgramValidatorTests {
+
+    @Test
+    public void validateCollectsAllViolations() {
+        // Arrange
+        LocalDateTime startTime = LocalDateTime.of(2020, Month.JULY, 18, 11, 45, 47);
+
+        Program program = Program.Builder.programWith().withChannelId("06d6232c-dca4-493d-86fb-f82f057dc5d5")
+                                         .withStartTime(startTime).build();
+
+        ValidationResult validationResult = new ValidationResult();
+
+        // Act
+        ProgramValidator.validate(program, validationResult);
+
+        // Assert
+        List<String> messageKeys =
+                validationResult.getViolations().stream().map(Violation::getMessageKey).collect(Collectors.toList());
+
+        assertFalse(validationResult.isValid());
+        assertEquals(4, messageKeys.size());
+        assertEquals("Program needs to have a image URL!", messageKeys.get(0));
+        assertEquals("Program needs to have a title!", messageKeys.get(1));
+        assertEquals("Program needs to have a description!", messageKeys.get(2));
+        assertEquals("Program needs to have a end time!", messageKeys.get(3));
+    }
+
+    @Test
+    public void validateValidProgramHasNoViolations() {
+        // Arrange
+        LocalDateTime startTime = LocalDateTime.of(2020, Month.JULY, 18, 11, 45, 47);
+
+        Program program = Program.Builder.programWith().withChannelId("06d6232c-dca4-493d-86fb-f82f057dc5d5")
+                                         .withImageUrl("http://cycloid.com/channel1-image/")
+                                         .withTitle("Best EPL Goals").withDescription("Best goals of the season!")
+                                         .withStartTime(startTime).withEndTime(startTime.plusHours(1)).build();
+
+        ValidationResult validationResult = new ValidationResult();
+
+        // Act
+        ProgramValidator.validate(program, validationResult);
+
+        // Assert
+        assertTrue(validationResult.isValid());
+        assertNull(validationResult.getFirstViolation());
+    }
+
+    @Test(expected = BusinessException.class)
+    public void throwIfInvalidThrowsFirstViolation() {
+        // Arrange
+        LocalDateTime startTime = LocalDateTime.of(2020, Month.JULY, 18, 11, 45, 47);
+
+        Program program = Program.Builder.programWith().withStartTime(startTime).withEndTime(startTime).build();
+
+        ValidationResult validationResult = new ValidationResult();
+
+        ProgramValidator.validate(program, validationResult);
+
+        // Act
+        try {
+            validationResult.throwIfInvalid();
+        } catch (BusinessException e) {
+            // Assert
+            assertEquals("Program needs to have a channel id!", e.getMessage());
+            assertEquals("The start time and the end time are the same!",
+                         validationResult.getViolations().get(4).getMessageKey());
+            throw e;
+        }
+
+        fail("Business exception of program without channel id was not thrown!");
+    }
+}